@@ -0,0 +1,90 @@
+package com.accountservice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestTemplate;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.AccountRequest;
+
+// POST /accounts over HTTP with:
+// baseline: Spring Boot's synchronous console logging and SQL echo, as before logback-spring.xml
+// default: async, bounded logging with SQL echo
+// prod: async logging sampled at 1%, no SQL echo
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(8)
+@Fork(1)
+public class AccountCreateBenchmark {
+    @Param({"baseline", "default", "prod"})
+    private String logging;
+
+    private ConfigurableApplicationContext context;
+    private RestTemplate restTemplate;
+    private AccountRequest accountRequest;
+
+    @Setup
+    public void setUp() {
+        final SpringApplicationBuilder builder = new SpringApplicationBuilder(AccountServiceApp.class).properties("server.port=0");
+        if ("baseline".equals(logging)) {
+            builder.properties("logging.config=classpath:logback-baseline.xml");
+        } else if ("prod".equals(logging)) {
+            builder.profiles("prod");
+        }
+        context = builder.run();
+
+        final Customer customer = new Customer();
+        customer.setFirstName("First");
+        customer.setLastName("Last");
+        final String customerBid = context.getBean(CustomerRepository.class).save(customer).getBusinessId();
+
+        final RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder()
+            .rootUri(String.format("http://localhost:%d/account-service", ((WebServerApplicationContext) context).getWebServer().getPort()))
+            .basicAuthentication("account-service", "passw0rd");
+        // Requests reuse one authenticated session so the password check doesn't drown out the logging cost
+        final String session = restTemplateBuilder.build().getForEntity("/actuator/health", String.class).getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        restTemplate = restTemplateBuilder.defaultHeader(HttpHeaders.COOKIE, session).build();
+        accountRequest = AccountRequest
+            .builder()
+            .withCustomerBid(customerBid)
+            .withName("benchmark_account")
+            .withDescription("Benchmark account")
+            .withSortCode("101010")
+            .withNumber(1234567891)
+            .withCurrency("GBP")
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String createAccount() {
+        return restTemplate.postForObject("/accounts", accountRequest, String.class);
+    }
+}
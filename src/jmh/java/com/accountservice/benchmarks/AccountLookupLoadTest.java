@@ -0,0 +1,158 @@
+package com.accountservice.benchmarks;
+
+import static com.accountservice.Constants.MAX_BATCH_SIZE;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.accountservice.models.AccountRequest;
+import com.accountservice.models.CustomerRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Closed loop load test of GET /accounts/{bId} against a running service. Each client sends its next request as soon as
+// the previous one is answered. Arguments: base uri, clients, seconds, accounts, mode. In 'random' mode (the default)
+// clients pick random accounts, which are soon all cached. In 'distinct' mode the accounts are requested in turn, with more
+// accounts than the business id cache holds (account-service.cache.business-id.maximum-size) lookups keep missing it
+public final class AccountLookupLoadTest {
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final int MAX_LATENCY_MILLIS = 60_000;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUri;
+    private final String authorization = "Basic " + Base64.getEncoder().encodeToString("account-service:passw0rd".getBytes(StandardCharsets.UTF_8));
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLongArray latencies = new AtomicLongArray(MAX_LATENCY_MILLIS + 1);
+    private final AtomicInteger nextAccount = new AtomicInteger();
+    private final boolean distinct;
+    private String session;
+    private List<String> accountIds;
+    private volatile boolean recording;
+    private volatile long deadline;
+
+    private AccountLookupLoadTest(final String baseUri, final boolean distinct) {
+        this.baseUri = baseUri;
+        this.distinct = distinct;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final AccountLookupLoadTest loadTest = new AccountLookupLoadTest(args.length > 0 ? args[0] : "http://localhost:8080/account-service",
+            args.length > 4 && "distinct".equals(args[4]));
+        final int clients = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        final Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        final int accounts = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+
+        loadTest.setUp(accounts);
+        loadTest.run(clients, duration);
+    }
+
+    private HttpRequest.Builder request(final String path) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(Duration.ofSeconds(60)).header("Authorization", authorization);
+        return session == null ? builder : builder.header("Cookie", session);
+    }
+
+    private <T> T post(final String path, final Object body, final TypeReference<T> type) throws Exception {
+        final HttpResponse<String> response = httpClient.send(request(path)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(String.format("POST %s failed with %d: %s", path, response.statusCode(), response.body()));
+        }
+        return objectMapper.readValue(response.body(), type);
+    }
+
+    // Clients share one authenticated session, so the password check isn't part of every request
+    private void setUp(final int accounts) throws Exception {
+        session = httpClient.send(request("/actuator/health").build(), HttpResponse.BodyHandlers.discarding())
+            .headers().firstValue("Set-Cookie").orElse(null);
+        final Map<String, Object> customer = post("/customers",
+            CustomerRequest.builder().withFirstName("Loadtest").withLastName("Customer").build(), new TypeReference<>() {
+            });
+        accountIds = new ArrayList<>(accounts);
+        final List<AccountRequest> accountRequests = new ArrayList<>(MAX_BATCH_SIZE);
+        for (int i = 0; i < accounts; i++) {
+            accountRequests.add(AccountRequest
+                .builder()
+                .withCustomerBid((String) customer.get("customerId"))
+                .withName("load_test_account")
+                .withDescription("Load test account " + i)
+                .withSortCode("101010")
+                .withNumber(1_000_000_000 + i)
+                .withCurrency("GBP")
+                .build());
+            if (accountRequests.size() == MAX_BATCH_SIZE || i == accounts - 1) {
+                final List<Map<String, Object>> created = post("/accounts/batch", accountRequests, new TypeReference<>() {
+                });
+                created.forEach(item -> accountIds.add((String) ((Map<?, ?>) item.get("data")).get("accountId")));
+                accountRequests.clear();
+            }
+        }
+    }
+
+    private void run(final int clients, final Duration duration) throws InterruptedException {
+        final long start = System.nanoTime();
+        deadline = start + WARM_UP.plus(duration).toNanos();
+        final CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            next(finished);
+        }
+        Thread.sleep(WARM_UP.toMillis());
+        recording = true;
+        finished.await();
+
+        final long total = requests.sum();
+        System.out.printf("mode=%s clients=%d seconds=%d requests=%d errors=%d throughput=%.1f/s p50=%dms p99=%dms max=%dms%n",
+            distinct ? "distinct" : "random", clients, duration.getSeconds(), total, errors.sum(), total / (double) duration.getSeconds(),
+            percentile(total, 0.5), percentile(total, 0.99), percentile(total, 1));
+    }
+
+    private void next(final CountDownLatch finished) {
+        final long sent = System.nanoTime();
+        if (sent - deadline >= 0) {
+            finished.countDown();
+            return;
+        }
+        final String accountId = accountIds.get(distinct
+            ? Math.floorMod(nextAccount.getAndIncrement(), accountIds.size())
+            : ThreadLocalRandom.current().nextInt(accountIds.size()));
+        httpClient.sendAsync(request("/accounts/" + accountId).GET().build(), HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, failure) -> {
+                if (recording) {
+                    requests.increment();
+                    latencies.incrementAndGet((int) Math.min(MAX_LATENCY_MILLIS, Duration.ofNanos(System.nanoTime() - sent).toMillis()));
+                    if (failure != null || response.statusCode() != 200) {
+                        errors.increment();
+                    }
+                }
+                next(finished);
+            });
+    }
+
+    private long percentile(final long total, final double percentile) {
+        final long rank = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int millis = 0; millis <= MAX_LATENCY_MILLIS; millis++) {
+            seen += latencies.get(millis);
+            if (seen >= rank) {
+                return millis;
+            }
+        }
+        return MAX_LATENCY_MILLIS;
+    }
+}
@@ -0,0 +1,65 @@
+package com.accountservice.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.accountservice.entities.Account;
+import com.accountservice.generators.BusinessIdGenerator;
+import com.accountservice.generators.RandomBusinessIdGenerator;
+import com.accountservice.generators.SequenceBusinessIdGenerator;
+
+// Id generation alone, under contention. Run with -t to compare other thread counts
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class BusinessIdGeneratorBenchmark {
+    @Param({"random", "sequence"})
+    private String generator;
+
+    private BusinessIdGenerator businessIdGenerator;
+
+    @Setup
+    public void setUp() {
+        businessIdGenerator = "random".equals(generator) ? new RandomBusinessIdGenerator() : new SequenceBusinessIdGenerator(emptyTable());
+    }
+
+    // A sequence counting up by blocks of 100 over a table without rows
+    private static JdbcTemplate emptyTable() {
+        final AtomicLong sequence = new AtomicLong(1);
+        return new JdbcTemplate() {
+            @Override
+            public <T> T queryForObject(final String sql, final Class<T> requiredType, final Object... args) {
+                return requiredType.cast(sequence.getAndAdd(100));
+            }
+
+            @Override
+            public <T> List<T> queryForList(final String sql, final Class<T> elementType, final Object... args) {
+                return List.of();
+            }
+        };
+    }
+
+    @Benchmark
+    public String generate() {
+        return businessIdGenerator.generate(Account.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.accountservice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Customer;
+
+// Concurrent inserts through the repository against the in-memory database, once per business id generator
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(4)
+@Fork(1)
+public class CustomerInsertBenchmark {
+    @Param({"random", "sequence"})
+    private String generator;
+
+    private ConfigurableApplicationContext context;
+    private CustomerRepository customerRepository;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AccountServiceApp.class)
+            .properties(
+                "account-service.business-id.generator=" + generator,
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=warn")
+            .run();
+        customerRepository = context.getBean(CustomerRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Customer insert() {
+        final Customer customer = new Customer();
+        customer.setFirstName("First");
+        customer.setLastName("Last");
+        return customerRepository.save(customer);
+    }
+}
@@ -0,0 +1,57 @@
+package com.accountservice.benchmarks;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.accountservice.caches.BusinessIdCache;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Detached entities and a standalone cache, so benchmarks measure mapping without a database
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static BusinessIdCache businessIdCache() {
+        return new BusinessIdCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    static Customer customer(final int index) {
+        final Customer customer = new Customer();
+        customer.setId((long) index);
+        customer.setBusinessId(String.format("CU%012d", index));
+        customer.setFirstName("First" + index);
+        customer.setLastName("Last" + index);
+        customer.setCreatedOn(Timestamp.valueOf(LocalDateTime.now()));
+        return customer;
+    }
+
+    static Account account(final int index, final Customer customer) {
+        final Account account = new Account();
+        account.setId((long) index);
+        account.setBusinessId(String.format("AC%012d", index));
+        account.setName("Account" + index);
+        account.setDescription("Benchmark account " + index);
+        account.setSortCode("101010");
+        account.setNumber(1_000_000_000 + index);
+        account.setCurrency("GBP");
+        account.setCustomer(customer);
+        account.setCreatedOn(Timestamp.valueOf(LocalDateTime.now()));
+        account.setModifiedOn(Timestamp.valueOf(LocalDateTime.now()));
+        return account;
+    }
+
+    static List<Account> accounts(final int size) {
+        final Customer customer = customer(1);
+        final List<Account> accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            accounts.add(account(i, customer));
+        }
+        return accounts;
+    }
+}
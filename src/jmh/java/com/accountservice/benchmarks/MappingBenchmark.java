@@ -0,0 +1,53 @@
+package com.accountservice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.AccountResponse;
+import com.accountservice.models.CustomerResponse;
+import com.accountservice.services.AccountServiceImpl;
+import com.accountservice.services.CustomerServiceImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    private AccountServiceImpl accountService;
+    private CustomerServiceImpl customerService;
+    private Account account;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        // Mapping never touches the repositories
+        customerService = new CustomerServiceImpl(null, null, Fixtures.businessIdCache());
+        accountService = new AccountServiceImpl(null, customerService, Fixtures.businessIdCache(), null);
+        customer = Fixtures.customer(1);
+        account = Fixtures.account(1, customer);
+    }
+
+    @Benchmark
+    public AccountResponse accountResponseFromEntity() {
+        return accountService.mapResponseFromEntity(account);
+    }
+
+    @Benchmark
+    public CustomerResponse customerResponseFromEntity() {
+        return customerService.mapResponseFromEntity(customer);
+    }
+}
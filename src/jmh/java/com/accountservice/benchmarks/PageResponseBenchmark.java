@@ -0,0 +1,73 @@
+package com.accountservice.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.accountservice.entities.Account;
+import com.accountservice.models.AccountResponse;
+import com.accountservice.models.PageResponse;
+import com.accountservice.services.AccountServiceImpl;
+import com.accountservice.services.CustomerServiceImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+    // Default page size and the seek endpoint's maximum
+    @Param({"25", "500"})
+    private int size;
+
+    private AccountServiceImpl accountService;
+    private Page<Account> page;
+    private SliceImpl<Account> slice;
+    private PageResponse<AccountResponse> response;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        accountService = new AccountServiceImpl(null, new CustomerServiceImpl(null, null, Fixtures.businessIdCache()), Fixtures.businessIdCache(), null);
+        final List<Account> accounts = Fixtures.accounts(size);
+        page = new PageImpl<>(accounts, PageRequest.of(0, size), size * 10L);
+        slice = new SliceImpl<>(accounts, PageRequest.of(0, size), true);
+        response = accountService.mapToPageResponse(page);
+        // Same modules and features as the mapper Spring Boot configures for the controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public PageResponse<AccountResponse> mapPage() {
+        return accountService.mapToPageResponse(page);
+    }
+
+    @Benchmark
+    public PageResponse<AccountResponse> mapSlice() {
+        return accountService.mapToPageResponse(slice);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
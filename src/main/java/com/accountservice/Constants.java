@@ -3,6 +3,12 @@ package com.accountservice;
 public final class Constants {
     public static final String CUSTOMER_BID_REGEX = "(CU)[0-9]{12}";
     public static final String ACCOUNT_BID_REGEX = "(AC)[0-9]{12}";
+    // Sort keys of the accounts page, only columns with an index ending in id (see V2__account_filter_indexes.sql)
+    public static final String ACCOUNT_SORT_REGEX = "(id|createdOn|sortCode)(,(asc|desc))?";
+    public static final String CURRENCY_REGEX = "GBP|EUR";
+    public static final String SORT_CODE_REGEX = "[0-9]{6,8}";
+    public static final int MAX_BATCH_SIZE = 5000;
+    public static final int MAX_LOOKUP_SIZE = 500;
 
     private Constants(){
 
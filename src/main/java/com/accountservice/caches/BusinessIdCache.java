@@ -0,0 +1,161 @@
+package com.accountservice.caches;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.accountservice.configs.ReplicaReads;
+import com.accountservice.entities.BaseEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Read-through cache of entities by business id, handed out as copies so requests never share a mutable entity
+@Component
+public class BusinessIdCache {
+    private static final String CACHE_NAME = "businessIds";
+
+    private final Cache<String, BaseEntity> cache;
+    private final ConcurrentMap<String, Set<String>> ownedBusinessIds = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BusinessIdCache(@Value("${account-service.cache.business-id.maximum-size:10000}") final long maximumSize,
+                           @Value("${account-service.cache.business-id.expire-after-write:5m}") final Duration expireAfterWrite,
+                           final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .<String, BaseEntity>removalListener((bId, entity, cause) -> unindex(bId, entity))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // Loaded outside a compute, which would pin a virtual thread's carrier while the loader waits for a connection
+    @SuppressWarnings("unchecked")
+    public <ENT extends BaseEntity> Optional<ENT> get(final String bId, final Function<String, Optional<ENT>> loader) {
+        final BaseEntity cached = cache.getIfPresent(bId);
+        if (cached != null) {
+            return Optional.of((ENT) index(bId, cached).copy());
+        }
+        final long evictionsBeforeLoad = evictions.get();
+        ReplicaReads.preferPrimary();
+        final Optional<ENT> loaded = loader.apply(bId);
+        if (loaded.isEmpty() || ReplicaReads.inCurrentTransaction()) {
+            return loaded;
+        }
+        return Optional.of((ENT) cacheLoaded(bId, loaded.get(), evictionsBeforeLoad).copy());
+    }
+
+    // Loads all missing business ids with one call of the loader. Ids the loader doesn't return are left out of the result
+    @SuppressWarnings("unchecked")
+    public <ENT extends BaseEntity> Map<String, ENT> getAll(final Collection<String> bIds, final Function<Set<String>, Map<String, ENT>> loader) {
+        final Map<String, ENT> entities = new LinkedHashMap<>();
+        cache.getAllPresent(bIds).forEach((bId, entity) -> entities.put(bId, (ENT) index(bId, entity).copy()));
+        final Set<String> missing = new HashSet<>(bIds);
+        missing.removeAll(entities.keySet());
+        if (missing.isEmpty()) {
+            return entities;
+        }
+        final long evictionsBeforeLoad = evictions.get();
+        ReplicaReads.preferPrimary();
+        final Map<String, ENT> loaded = loader.apply(missing);
+        if (ReplicaReads.inCurrentTransaction()) {
+            entities.putAll(loaded);
+            return entities;
+        }
+        loaded.forEach((bId, entity) -> entities.put(bId, (ENT) cacheLoaded(bId, entity, evictionsBeforeLoad).copy()));
+        return entities;
+    }
+
+    // Dropped again when an eviction ran during the load, the loader may have read the row before that change
+    private BaseEntity cacheLoaded(final String bId, final BaseEntity entity, final long evictionsBeforeLoad) {
+        final BaseEntity copy = entity.copy();
+        final BaseEntity present = cache.asMap().putIfAbsent(bId, copy);
+        if (present != null) {
+            return index(bId, present);
+        }
+        index(bId, copy);
+        if (evictions.get() != evictionsBeforeLoad) {
+            cache.asMap().remove(bId, copy);
+        }
+        return copy;
+    }
+
+    public void evict(final String bId) {
+        afterCommit(() -> {
+            evictions.incrementAndGet();
+            cache.invalidate(bId);
+        });
+    }
+
+    // Evicts the entities owned by the given one, e.g. the accounts of a deleted customer
+    public void evictOwnedBy(final String ownerBid) {
+        afterCommit(() -> {
+            evictions.incrementAndGet();
+            final Set<String> owned = ownedBusinessIds.remove(ownerBid);
+            if (owned != null) {
+                cache.invalidateAll(owned);
+            }
+        });
+    }
+
+    // Evicted after commit so a concurrent read can't re-cache the old row
+    private static void afterCommit(final Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    // Runs once the entity is in the cache, on hits too, so an entry is always indexed while cached
+    private BaseEntity index(final String bId, final BaseEntity entity) {
+        final String owner = entity.ownerBusinessId();
+        if (owner != null) {
+            final Set<String> owned = ownedBusinessIds.get(owner);
+            if (owned == null || !owned.contains(bId)) {
+                ownedBusinessIds.compute(owner, (key, current) -> {
+                    final Set<String> updated = current == null ? ConcurrentHashMap.newKeySet() : current;
+                    updated.add(bId);
+                    return updated;
+                });
+            }
+        }
+        return entity;
+    }
+
+    // Removal listeners run after the removal, the id may have been loaded and indexed again meanwhile
+    private void unindex(final String bId, final BaseEntity entity) {
+        final String owner = entity == null ? null : entity.ownerBusinessId();
+        if (owner == null) {
+            return;
+        }
+        ownedBusinessIds.computeIfPresent(owner, (key, owned) -> {
+            if (!cache.asMap().containsKey(bId)) {
+                owned.remove(bId);
+            }
+            return owned.isEmpty() ? null : owned;
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.accountservice.configs;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.accountservice.services.SoftDeleteArchiver;
+
+// Run on one node only, two archivers moving the same rows fail each other's batches
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "account-service.archive.enabled", havingValue = "true")
+public class ArchiveConfig {
+    private final SoftDeleteArchiver softDeleteArchiver;
+
+    public ArchiveConfig(final SoftDeleteArchiver softDeleteArchiver) {
+        this.softDeleteArchiver = softDeleteArchiver;
+    }
+
+    @Scheduled(initialDelayString = "${account-service.archive.interval-ms:3600000}", fixedDelayString = "${account-service.archive.interval-ms:3600000}")
+    public void archiveSoftDeleted() {
+        softDeleteArchiver.archive();
+    }
+}
@@ -0,0 +1,25 @@
+package com.accountservice.configs;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.accountservice.services.BalanceChecker;
+
+// Runs the balance consistency check in the background
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "account-service.ledger.balance-check.enabled", havingValue = "true")
+public class BalanceCheckConfig {
+    private final BalanceChecker balanceChecker;
+
+    public BalanceCheckConfig(final BalanceChecker balanceChecker) {
+        this.balanceChecker = balanceChecker;
+    }
+
+    @Scheduled(initialDelayString = "${account-service.ledger.balance-check.interval-ms:3600000}", fixedDelayString = "${account-service.ledger.balance-check.interval-ms:3600000}")
+    public void checkBalances() {
+        balanceChecker.check();
+    }
+}
@@ -0,0 +1,76 @@
+package com.accountservice.configs;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Caches successful authentications by a salted digest of the credentials, the password itself is never kept
+class CachingAuthenticationProvider implements AuthenticationProvider {
+    private static final String CACHE_NAME = "authentications";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, Authentication> cache;
+    private final byte[] salt = new byte[16];
+
+    CachingAuthenticationProvider(final AuthenticationProvider delegate, final long maximumSize, final Duration expireAfterWrite,
+                                  final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        new SecureRandom().nextBytes(salt);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Authentication authenticate(final Authentication authentication) {
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken) || authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+        final String key = digest(authentication.getName(), authentication.getCredentials().toString());
+        final Authentication cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(final Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    private String digest(final String username, final String password) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            digest.update(salt);
+            digest.update(username.getBytes(StandardCharsets.UTF_8));
+            // Separator keeps "ab" + "c" and "a" + "bc" apart
+            digest.update((byte) 0);
+            digest.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.accountservice.configs;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import java.time.Duration;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+// Connection factory is not a bean, Spring Boot wouldn't configure the JPA DataSource next to one
+@Configuration
+@ConditionalOnProperty(name = "account-service.reactive.enabled", havingValue = "true")
+public class R2dbcConfig {
+    private ConnectionPool connectionPool;
+
+    static ConnectionFactory connectionFactory(final String url, final String username, final String password) {
+        if (StringUtils.isBlank(url)) {
+            throw new IllegalStateException("Reactive reads are enabled but account-service.reactive.url is not set");
+        }
+        final ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null) {
+            options.option(USER, username);
+        }
+        if (password != null) {
+            options.option(PASSWORD, password);
+        }
+        return ConnectionFactories.get(options.build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(final DataSourceProperties dataSourceProperties,
+                                         @Value("${account-service.reactive.url:}") final String url,
+                                         @Value("${account-service.reactive.username:#{null}}") final String username,
+                                         @Value("${account-service.reactive.password:#{null}}") final String password,
+                                         @Value("${account-service.r2dbc.pool.initial-size:1}") final int initialSize,
+                                         @Value("${account-service.r2dbc.pool.max-size:10}") final int maxSize,
+                                         @Value("${account-service.r2dbc.pool.max-idle-time:30m}") final Duration maxIdleTime,
+                                         @Value("${account-service.r2dbc.pool.max-acquire-time:5s}") final Duration maxAcquireTime) {
+        final ConnectionFactory connectionFactory = connectionFactory(url,
+            username == null ? dataSourceProperties.determineUsername() : username,
+            password == null ? dataSourceProperties.determinePassword() : password);
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+            .builder(connectionFactory)
+            .name("account-service-r2dbc")
+            .initialSize(initialSize)
+            .maxSize(maxSize)
+            .maxIdleTime(maxIdleTime)
+            .maxAcquireTime(maxAcquireTime)
+            .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.accountservice.configs;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// A replica whose heartbeat is older than the maximum lag, or can't be read, takes no reads until it catches up
+class ReplicaLagMonitor {
+    static final String METRIC_NAME = "account-service.replica.lag";
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String STAMP = "update replica_heartbeat set beat_at = ? where id = 1";
+    private static final String READ = "select beat_at from replica_heartbeat where id = 1";
+
+    private final ReplicaRoutingDataSource dataSource;
+    private final Duration maxLag;
+    private final Clock clock;
+    private final Map<String, Double> lags = new ConcurrentHashMap<>();
+
+    ReplicaLagMonitor(final ReplicaRoutingDataSource dataSource, final Duration maxLag, final Clock clock, final MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.maxLag = maxLag;
+        this.clock = clock;
+        dataSource.getReplicas().keySet().forEach(replica -> {
+            lags.put(replica, Double.NaN);
+            Gauge.builder(METRIC_NAME, lags, values -> values.get(replica))
+                .description("Age of the replica's heartbeat in seconds, NaN when it can't be read")
+                .baseUnit("seconds")
+                .tag("replica", replica)
+                .register(meterRegistry);
+        });
+    }
+
+    void check() {
+        final Timestamp now = Timestamp.from(clock.instant());
+        try {
+            new JdbcTemplate(dataSource.getPrimary()).update(STAMP, now);
+        } catch (DataAccessException e) {
+            logger.warn("Heartbeat could not be stamped on the primary", e);
+        }
+        final List<String> usable = new ArrayList<>();
+        dataSource.getReplicas().forEach((replica, replicaDataSource) -> {
+            try {
+                final Timestamp beatAt = new JdbcTemplate(replicaDataSource).queryForObject(READ, Timestamp.class);
+                final Duration lag = Duration.between(beatAt.toInstant(), now.toInstant());
+                lags.put(replica, lag.toMillis() / 1000.0);
+                if (lag.compareTo(maxLag) <= 0) {
+                    usable.add(replica);
+                }
+            } catch (DataAccessException e) {
+                lags.put(replica, Double.NaN);
+                logger.warn("Heartbeat of replica {} could not be read", replica, e);
+            }
+        });
+        if (!usable.equals(dataSource.getUsableReplicas())) {
+            logger.info("Reads go to replicas {}", usable);
+        }
+        dataSource.setUsableReplicas(usable);
+    }
+}
@@ -0,0 +1,48 @@
+package com.accountservice.configs;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Bound per transaction by ReplicaRoutingDataSource, cleared when the transaction completes
+public final class ReplicaReads {
+    private static final Object RESOURCE_KEY = ReplicaReads.class;
+    private static final Object PRIMARY_KEY = ReplicaReads.class.getName() + ".primary";
+
+    private ReplicaReads() {
+    }
+
+    public static boolean inCurrentTransaction() {
+        return TransactionSynchronizationManager.hasResource(RESOURCE_KEY);
+    }
+
+    // Sends the current transaction to the primary. Only works before its first statement, the connection is kept once taken
+    public static void preferPrimary() {
+        if (!inCurrentTransaction() && !primaryPreferred()) {
+            bind(PRIMARY_KEY, ReplicaRoutingDataSource.PRIMARY);
+        }
+    }
+
+    static boolean primaryPreferred() {
+        return TransactionSynchronizationManager.hasResource(PRIMARY_KEY);
+    }
+
+    // A transaction nested in one that is already marked stays marked, it is cleared with the outer one
+    static void markCurrentTransaction(final String replica) {
+        if (!inCurrentTransaction()) {
+            bind(RESOURCE_KEY, replica);
+        }
+    }
+
+    private static void bind(final Object key, final String dataSource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(key, dataSource);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(key);
+            }
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.accountservice.configs;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Replicas are expected to replicate the primary's schema, heartbeat row included
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "account-service.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private static HikariDataSource pool(final Environment environment, final MeterRegistry meterRegistry, final String poolName,
+                                         final String url, final String username, final String password) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    @Bean
+    public DataSource dataSource(final DataSourceProperties dataSourceProperties,
+                                 final Environment environment,
+                                 final MeterRegistry meterRegistry,
+                                 @Value("${account-service.replica.urls}") final List<String> urls,
+                                 @Value("${account-service.replica.username:${spring.datasource.username:sa}}") final String username,
+                                 @Value("${account-service.replica.password:${spring.datasource.password:}}") final String password,
+                                 @Value("${account-service.replica.max-lag:5s}") final Duration maxLag) {
+        final String primaryName = environment.getProperty(HIKARI_PREFIX + ".pool-name", "account-service");
+        final HikariDataSource primary = pool(environment, meterRegistry, primaryName, dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        final Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int index = 0; index < urls.size(); index++) {
+            final HikariDataSource replica = pool(environment, meterRegistry, primaryName + "-replica-" + index, urls.get(index), username, password);
+            replica.setReadOnly(true);
+            replicas.put("replica-" + index, replica);
+        }
+        final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+        replicaLagMonitor = new ReplicaLagMonitor(routingDataSource, maxLag, Clock.systemUTC(), meterRegistry);
+        return routingDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${account-service.replica.lag-check-interval-ms:1000}")
+    public void checkReplicaLag() {
+        replicaLagMonitor.check();
+    }
+}
@@ -0,0 +1,75 @@
+package com.accountservice.configs;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Connection is taken lazily, the transaction manager asks for it before the transaction is marked read-only
+class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> usableReplicas = List.of();
+
+    ReplicaRoutingDataSource(final HikariDataSource primary, final Map<String, HikariDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+        final AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return lookupKey();
+            }
+        };
+        final Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        router.setTargetDataSources(targets);
+        router.setDefaultTargetDataSource(primary);
+        router.setLenientFallback(false);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    String lookupKey() {
+        final List<String> usable = usableReplicas;
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || usable.isEmpty() || ReplicaReads.primaryPreferred()) {
+            return PRIMARY;
+        }
+        final String replica = usable.get(Math.floorMod(next.getAndIncrement(), usable.size()));
+        ReplicaReads.markCurrentTransaction(replica);
+        return replica;
+    }
+
+    // Replicas start unusable until the lag monitor has seen them caught up
+    void setUsableReplicas(final List<String> usableReplicas) {
+        this.usableReplicas = List.copyOf(usableReplicas);
+    }
+
+    List<String> getUsableReplicas() {
+        return usableReplicas;
+    }
+
+    HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
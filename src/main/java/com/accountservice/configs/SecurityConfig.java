@@ -1,11 +1,43 @@
 package com.accountservice.configs;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.authentication.configuration.EnableGlobalAuthentication;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @EnableGlobalAuthentication
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
+    private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+
+    public SecurityConfig(final UserDetailsService userDetailsService,
+                          final MeterRegistry meterRegistry,
+                          @Value("${account-service.cache.authentication.maximum-size:1000}") final long maximumSize,
+                          @Value("${account-service.cache.authentication.expire-after-write:1m}") final Duration expireAfterWrite) {
+        this.userDetailsService = userDetailsService;
+        this.meterRegistry = meterRegistry;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    // The provider is built here rather than declared as a bean, an AuthenticationProvider bean would switch off the
+    // user Spring Boot configures from spring.security.user
+    @Override
+    protected void configure(final AuthenticationManagerBuilder auth) {
+        final DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
+        daoAuthenticationProvider.setUserDetailsService(userDetailsService);
+        auth.authenticationProvider(new CachingAuthenticationProvider(daoAuthenticationProvider, maximumSize, expireAfterWrite, meterRegistry));
+    }
+
     @Override
     protected void configure(final HttpSecurity http) throws Exception {
         http
@@ -0,0 +1,68 @@
+package com.accountservice.configs;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Executor is looked up reflectively so the code still builds for Java 11
+@Configuration
+@ConditionalOnProperty(name = "account-service.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+    // Name of the DataSource the application uses, the routing one when replicas are on. Pools behind it aren't wrapped
+    static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private ExecutorService executorService;
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(String.format("Virtual threads need Java 21 or later but running on %s", Runtime.version()), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual thread executor could not be created", e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadExecutorCustomizer() {
+        executorService = newVirtualThreadPerTaskExecutor();
+        logger.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executorService);
+    }
+
+    // Tomcat is stopped by then, a shut down executor only lets the requests still running finish
+    @PreDestroy
+    public void shutdownExecutor() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    // Request concurrency is no longer capped by a thread pool, so the database is protected here instead. Only the
+    // application's DataSource is bounded, wrapping the pools behind a routing one too would take two permits per connection
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(@Value("${account-service.virtual-threads.max-connections:10}") final int maxConnections,
+                                                                   @Value("${account-service.virtual-threads.connection-timeout:30s}") final Duration timeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                return DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource && !(bean instanceof BoundedDataSource)
+                    ? new BoundedDataSource((DataSource) bean, maxConnections, timeout)
+                    : bean;
+            }
+        };
+    }
+}
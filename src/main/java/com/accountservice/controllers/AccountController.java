@@ -1,14 +1,27 @@
 package com.accountservice.controllers;
 
 import static com.accountservice.Constants.ACCOUNT_BID_REGEX;
+import static com.accountservice.Constants.ACCOUNT_SORT_REGEX;
+import static com.accountservice.Constants.CURRENCY_REGEX;
 import static com.accountservice.Constants.CUSTOMER_BID_REGEX;
+import static com.accountservice.Constants.MAX_BATCH_SIZE;
+import static com.accountservice.Constants.MAX_LOOKUP_SIZE;
+import static com.accountservice.Constants.SORT_CODE_REGEX;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,24 +31,35 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.accountservice.models.AccountFilter;
 import com.accountservice.models.AccountRequest;
 import com.accountservice.models.AccountResponse;
+import com.accountservice.models.BatchItemResponse;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CursorPageResponse;
+import com.accountservice.models.LookupItemResponse;
 import com.accountservice.models.PageResponse;
 import com.accountservice.services.AccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
+import springfox.documentation.annotations.ApiIgnore;
 
 @RestController
 @Validated
 @Api(value = "accounts", tags = {"accounts"}, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE, authorizations = {})
 public class AccountController {
     private final AccountService accountService;
+    private final ObjectMapper objectMapper;
 
-    public AccountController(final AccountService accountService) {
+    public AccountController(final AccountService accountService,
+                             final ObjectMapper objectMapper) {
         this.accountService = accountService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping(value = "/accounts", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -44,30 +68,86 @@ public class AccountController {
         return accountService.create(accountRequest);
     }
 
+    @PostMapping(value = "/accounts/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "CreateAccounts", notes = "To create many accounts in one call. Results are returned per item in request order")
+    public List<BatchItemResponse<AccountResponse>> createAccounts(@Valid @NotNull @Size(min = 1, max = MAX_BATCH_SIZE) @RequestBody final List<@Valid AccountRequest> accountRequests) {
+        return accountService.createAll(accountRequests);
+    }
+
+    @PostMapping(value = "/accounts/lookup", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "LookupAccounts", notes = "To get many accounts by business id in one call. Results are returned per id in request order")
+    public List<LookupItemResponse<AccountResponse>> lookupAccounts(@NotNull @Size(min = 1, max = MAX_LOOKUP_SIZE) @RequestBody final List<@NotNull @Pattern(regexp = ACCOUNT_BID_REGEX) String> bIds) {
+        return accountService.findByBids(bIds);
+    }
+
     @GetMapping(value = "/accounts", produces = MediaType.APPLICATION_JSON_VALUE)
-    @ApiOperation(value = "FindAllAccounts", notes = "To get all accounts in system paginated by size and pageNo ")
+    @ApiOperation(value = "FindAllAccounts", notes = "To get all accounts in system paginated by size and pageNo, optionally filtered and sorted. Answers 304 when If-None-Match holds the page's ETag")
     public PageResponse<AccountResponse> findAllAccounts(@ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Max(500) int size,
-                                                         @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo) {
-        return accountService.findAll(size, pageNo);
+                                                         @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo,
+                                                         @ApiParam(value = "NONE skips the total count and only reports hasNext", example = "EXACT", defaultValue = "EXACT") @RequestParam(defaultValue = "EXACT") final CountMode countMode,
+                                                         @ApiParam(value = "Only accounts in this currency", example = "GBP") @RequestParam(required = false) @Pattern(regexp = CURRENCY_REGEX) final String currency,
+                                                         @ApiParam(value = "Only accounts with this sort code", example = "101010") @RequestParam(required = false) @Pattern(regexp = SORT_CODE_REGEX) final String sortCode,
+                                                         @ApiParam(value = "Only accounts of this customer", example = "CU123456789012") @RequestParam(required = false) @Pattern(regexp = CUSTOMER_BID_REGEX) final String customerBid,
+                                                         @ApiParam(value = "Only accounts created at or after", example = "2021-12-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime createdFrom,
+                                                         @ApiParam(value = "Only accounts created before", example = "2022-01-01T00:00:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime createdTo,
+                                                         @ApiParam(value = "Sort key id, createdOn or sortCode with optional direction asc or desc", example = "createdOn,desc", defaultValue = "id") @RequestParam(required = false) @Pattern(regexp = ACCOUNT_SORT_REGEX) final String sort,
+                                                         @ApiIgnore final WebRequest webRequest) {
+        final AccountFilter filter = AccountFilter
+            .builder()
+            .withCurrency(currency)
+            .withSortCode(sortCode)
+            .withCustomerBid(customerBid)
+            .withCreatedFrom(createdFrom)
+            .withCreatedTo(createdTo)
+            .withSort(sort)
+            .build();
+        return accountService.findAll(filter, size, pageNo, countMode, webRequest::checkNotModified);
+    }
+
+    @GetMapping(value = "/accounts/seek", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "SeekAllAccounts", notes = "To get all accounts in system paginated by size and the nextCursor of the previous page. Page latency does not grow with depth")
+    public CursorPageResponse<AccountResponse> seekAllAccounts(@ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Min(1) @Max(500) int size,
+                                                               @ApiParam(value = "nextCursor of the previous page, omit for the first page") @RequestParam(required = false) final String cursor) {
+        return accountService.findAllAfter(cursor, size);
     }
 
     @GetMapping(value = "/accounts/for/customer/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    @ApiOperation(value = "FindAllAccountsByCustomer", notes = "To get all accounts for a customer in system paginated by size and pageNo ")
+    @ApiOperation(value = "FindAllAccountsByCustomer", notes = "To get all accounts for a customer in system paginated by size and pageNo. Answers 304 when If-None-Match holds the page's ETag")
     public PageResponse<AccountResponse> findAllAccountsForCustomer(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bid,
                                                                     @ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Max(500) int size,
-                                                                    @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo) {
-        return accountService.getAccountsForACustomer(bid, size, pageNo);
+                                                                    @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo,
+                                                                    @ApiParam(value = "NONE skips the total count and only reports hasNext", example = "EXACT", defaultValue = "EXACT") @RequestParam(defaultValue = "EXACT") final CountMode countMode,
+                                                                    @ApiIgnore final WebRequest webRequest) {
+        return accountService.getAccountsForACustomer(bid, pageNo, size, countMode, webRequest::checkNotModified);
+    }
+
+    @GetMapping(value = "/accounts/export")
+    @ApiOperation(value = "ExportAllAccounts", notes = "To stream all accounts in system as newline delimited json (application/x-ndjson)")
+    public void exportAllAccounts(final HttpServletResponse response) throws IOException {
+        final NdjsonResponseWriter writer = new NdjsonResponseWriter(response, objectMapper);
+        accountService.exportAll(writer);
+        writer.finish();
+    }
+
+    @GetMapping(value = "/accounts/for/customer/{bId}/export")
+    @ApiOperation(value = "ExportAllAccountsByCustomer", notes = "To stream all accounts for a customer as newline delimited json (application/x-ndjson)")
+    public void exportAllAccountsForCustomer(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bid,
+                                             final HttpServletResponse response) throws IOException {
+        final NdjsonResponseWriter writer = new NdjsonResponseWriter(response, objectMapper);
+        accountService.exportAccountsForACustomer(bid, writer);
+        writer.finish();
     }
 
     @GetMapping(value = "/accounts/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    @ApiOperation(value = "GetAccountByBid", notes = "To get account by its business id")
-    public AccountResponse getAccountByBid(@Valid @PathVariable("bId") @Pattern(regexp = ACCOUNT_BID_REGEX) final String bId) {
-        return accountService.findByBid(bId);
+    @ApiOperation(value = "GetAccountByBid", notes = "To get account by its business id. Answers 304 when If-None-Match holds the account's ETag")
+    public AccountResponse getAccountByBid(@Valid @PathVariable("bId") @Pattern(regexp = ACCOUNT_BID_REGEX) final String bId,
+                                           @ApiIgnore final WebRequest webRequest) {
+        return accountService.findByBid(bId, webRequest::checkNotModified);
     }
 
     @DeleteMapping(value = "/accounts/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @ApiOperation(value = "DeleteAccount", notes = "To soft delete account by bid")
-    public void deleteAccountByBid(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bId) {
+    public void deleteAccountByBid(@Valid @PathVariable("bId") @Pattern(regexp = ACCOUNT_BID_REGEX) final String bId) {
         accountService.delete(bId);
     }
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package com.accountservice.controllers;
 
 import static com.accountservice.Constants.CUSTOMER_BID_REGEX;
+import static com.accountservice.Constants.MAX_BATCH_SIZE;
+import static com.accountservice.Constants.MAX_LOOKUP_SIZE;
+
+import java.util.List;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
 
 import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
@@ -17,24 +22,35 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.accountservice.models.CustomerRequest;
 import com.accountservice.models.CustomerResponse;
+import com.accountservice.models.CustomerSummaryResponse;
+import com.accountservice.models.BatchItemResponse;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CursorPageResponse;
+import com.accountservice.models.LookupItemResponse;
 import com.accountservice.models.PageResponse;
 import com.accountservice.services.CustomerService;
+import com.accountservice.services.CustomerSummaryService;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
+import springfox.documentation.annotations.ApiIgnore;
 
 @RestController
 @Validated
 @Api(value = "customers", tags = {"customers"}, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE, authorizations = {})
 public class CustomerController {
     private final CustomerService customerService;
+    private final CustomerSummaryService customerSummaryService;
 
-    public CustomerController(final CustomerService customerService) {
+    public CustomerController(final CustomerService customerService,
+                              final CustomerSummaryService customerSummaryService) {
         this.customerService = customerService;
+        this.customerSummaryService = customerSummaryService;
     }
 
     @PostMapping(value = "/customers", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -43,17 +59,53 @@ public class CustomerController {
         return customerService.create(createCustomerRequest);
     }
 
+    @PostMapping(value = "/customers/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "CreateCustomers", notes = "To create many customers in one call. Results are returned per item in request order")
+    public List<BatchItemResponse<CustomerResponse>> createCustomers(@Valid @NotNull @Size(min = 1, max = MAX_BATCH_SIZE) @RequestBody final List<@Valid CustomerRequest> customerRequests) {
+        return customerService.createAll(customerRequests);
+    }
+
+    @PostMapping(value = "/customers/lookup", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "LookupCustomers", notes = "To get many customers by business id in one call. Results are returned per id in request order")
+    public List<LookupItemResponse<CustomerResponse>> lookupCustomers(@NotNull @Size(min = 1, max = MAX_LOOKUP_SIZE) @RequestBody final List<@NotNull @Pattern(regexp = CUSTOMER_BID_REGEX) String> bIds) {
+        return customerService.findByBids(bIds);
+    }
+
     @GetMapping(value = "/customers", produces = MediaType.APPLICATION_JSON_VALUE)
-    @ApiOperation(value = "FindAllCustomers", notes = "To get all customers in system")
+    @ApiOperation(value = "FindAllCustomers", notes = "To get all customers in system. Answers 304 when If-None-Match holds the page's ETag")
     public PageResponse<CustomerResponse> getAllCustomers(@ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Max(500) int size,
-                                                          @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo) {
-        return customerService.findAll(size, pageNo);
+                                                          @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo,
+                                                          @ApiParam(value = "NONE skips the total count and only reports hasNext", example = "EXACT", defaultValue = "EXACT") @RequestParam(defaultValue = "EXACT") final CountMode countMode,
+                                                          @ApiIgnore final WebRequest webRequest) {
+        return customerService.findAll(size, pageNo, countMode, webRequest::checkNotModified);
+    }
+
+    @GetMapping(value = "/customers/seek", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "SeekAllCustomers", notes = "To get all customers in system paginated by size and the nextCursor of the previous page. Page latency does not grow with depth")
+    public CursorPageResponse<CustomerResponse> seekAllCustomers(@ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Min(1) @Max(500) int size,
+                                                                 @ApiParam(value = "nextCursor of the previous page, omit for the first page") @RequestParam(required = false) final String cursor) {
+        return customerService.findAllAfter(cursor, size);
+    }
+
+    @GetMapping(value = "/customers/summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "FindAllCustomerSummaries", notes = "To get account totals of the customers on a page of FindAllCustomers, in the same order")
+    public PageResponse<CustomerSummaryResponse> getAllCustomerSummaries(@ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Max(500) int size,
+                                                                         @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo,
+                                                                         @ApiParam(value = "NONE skips the total count and only reports hasNext", example = "EXACT", defaultValue = "EXACT") @RequestParam(defaultValue = "EXACT") final CountMode countMode) {
+        return customerSummaryService.getSummaries(size, pageNo, countMode);
+    }
+
+    @GetMapping(value = "/customers/{bId}/summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "GetCustomerSummary", notes = "To get the number of accounts of a customer, in total and per currency")
+    public CustomerSummaryResponse getCustomerSummary(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bId) {
+        return customerSummaryService.getSummary(bId);
     }
 
     @GetMapping(value = "/customers/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    @ApiOperation(value = "GetCustomerByBusinessId", notes = "To get customer by its business id")
-    public CustomerResponse getCustomerByBid(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bId) {
-        return customerService.findByBid(bId);
+    @ApiOperation(value = "GetCustomerByBusinessId", notes = "To get customer by its business id. Answers 304 when If-None-Match holds the customer's ETag")
+    public CustomerResponse getCustomerByBid(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bId,
+                                             @ApiIgnore final WebRequest webRequest) {
+        return customerService.findByBid(bId, webRequest::checkNotModified);
     }
 
     @DeleteMapping(value = "/customers/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -12,6 +12,8 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.exceptions.InvalidDataException;
+import com.accountservice.exceptions.ServiceBusyException;
 import com.accountservice.models.ErrorMessage;
 import com.accountservice.models.Severity;
 
@@ -41,6 +43,18 @@ public class ExceptionHandlerAdvice extends ResponseEntityExceptionHandler {
         return buildErrorResponseEntity(ex.getMessage(), ex.getClass().getSimpleName(), ex.getField(), Severity.DATA, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler({InvalidDataException.class})
+    public ResponseEntity<ErrorMessage> handleInvalidDataException(final InvalidDataException ex,
+                                                                   final WebRequest request) {
+        return buildErrorResponseEntity(ex.getMessage(), ex.getClass().getSimpleName(), ex.getField(), Severity.DATA, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({ServiceBusyException.class})
+    public ResponseEntity<ErrorMessage> handleServiceBusyException(final ServiceBusyException ex,
+                                                                   final WebRequest request) {
+        return buildErrorResponseEntity(ex.getMessage(), ex.getClass().getSimpleName(), null, Severity.FATAL, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler({ConstraintViolationException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorMessage> handleConstraintViolationException(final ConstraintViolationException ex,
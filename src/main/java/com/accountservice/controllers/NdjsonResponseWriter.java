@@ -0,0 +1,51 @@
+package com.accountservice.controllers;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// Response is only touched on the first row, so an earlier failure is still reported by ExceptionHandlerAdvice
+final class NdjsonResponseWriter implements Consumer<Object> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final HttpServletResponse response;
+    private final ObjectWriter objectWriter;
+    private OutputStream outputStream;
+
+    NdjsonResponseWriter(final HttpServletResponse response, final ObjectMapper objectMapper) {
+        this.response = response;
+        this.objectWriter = objectMapper.writer();
+    }
+
+    @Override
+    public void accept(final Object row) {
+        try {
+            outputStream().write(objectWriter.writeValueAsBytes(row));
+            outputStream.write(LINE_SEPARATOR);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    void finish() throws IOException {
+        outputStream().flush();
+    }
+
+    private OutputStream outputStream() throws IOException {
+        if (outputStream == null) {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            outputStream = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+        }
+        return outputStream;
+    }
+}
@@ -0,0 +1,73 @@
+package com.accountservice.controllers;
+
+import static com.accountservice.Constants.ACCOUNT_BID_REGEX;
+import static com.accountservice.Constants.CUSTOMER_BID_REGEX;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.accountservice.models.AccountResponse;
+import com.accountservice.models.PageResponse;
+import com.accountservice.services.ReactiveAccountService;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Request threads are released while the database is read, streams are written as rows arrive and at the pace the client reads
+@RestController
+@ConditionalOnProperty(name = "account-service.reactive.enabled", havingValue = "true")
+@Validated
+@Api(value = "reactive accounts", tags = {"reactive accounts"}, produces = MediaType.APPLICATION_JSON_VALUE, authorizations = {})
+public class ReactiveAccountController {
+    private final ReactiveAccountService reactiveAccountService;
+
+    public ReactiveAccountController(final ReactiveAccountService reactiveAccountService) {
+        this.reactiveAccountService = reactiveAccountService;
+    }
+
+    @GetMapping(value = "/reactive/accounts", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "FindAllAccountsReactive", notes = "To get all accounts in system paginated by size and pageNo, read without blocking")
+    public Mono<PageResponse<AccountResponse>> findAllAccounts(@ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Min(1) @Max(500) int size,
+                                                               @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo) {
+        return reactiveAccountService.findAll(size, pageNo);
+    }
+
+    @GetMapping(value = "/reactive/accounts/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ApiOperation(value = "StreamAllAccounts", notes = "To stream all accounts in system as newline delimited json (application/x-ndjson)")
+    public Flux<AccountResponse> streamAllAccounts() {
+        return reactiveAccountService.streamAll();
+    }
+
+    @GetMapping(value = "/reactive/accounts/for/customer/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "FindAllAccountsByCustomerReactive", notes = "To get all accounts for a customer paginated by size and pageNo, read without blocking")
+    public Mono<PageResponse<AccountResponse>> findAllAccountsForCustomer(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bid,
+                                                                          @ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Min(1) @Max(500) int size,
+                                                                          @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo) {
+        return reactiveAccountService.getAccountsForACustomer(bid, pageNo, size);
+    }
+
+    @GetMapping(value = "/reactive/accounts/for/customer/{bId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ApiOperation(value = "StreamAllAccountsByCustomer", notes = "To stream all accounts for a customer as newline delimited json (application/x-ndjson)")
+    public Flux<AccountResponse> streamAllAccountsForCustomer(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bid) {
+        return reactiveAccountService.streamAccountsForACustomer(bid);
+    }
+
+    @GetMapping(value = "/reactive/accounts/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "GetAccountByBidReactive", notes = "To get account by its business id, read without blocking")
+    public Mono<AccountResponse> getAccountByBid(@Valid @PathVariable("bId") @Pattern(regexp = ACCOUNT_BID_REGEX) final String bId) {
+        return reactiveAccountService.findByBid(bId);
+    }
+}
@@ -0,0 +1,57 @@
+package com.accountservice.controllers;
+
+import static com.accountservice.Constants.CUSTOMER_BID_REGEX;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.accountservice.models.CustomerResponse;
+import com.accountservice.models.PageResponse;
+import com.accountservice.services.ReactiveCustomerService;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnProperty(name = "account-service.reactive.enabled", havingValue = "true")
+@Validated
+@Api(value = "reactive customers", tags = {"reactive customers"}, produces = MediaType.APPLICATION_JSON_VALUE, authorizations = {})
+public class ReactiveCustomerController {
+    private final ReactiveCustomerService reactiveCustomerService;
+
+    public ReactiveCustomerController(final ReactiveCustomerService reactiveCustomerService) {
+        this.reactiveCustomerService = reactiveCustomerService;
+    }
+
+    @GetMapping(value = "/reactive/customers", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "FindAllCustomersReactive", notes = "To get all customers in system paginated by size and pageNo, read without blocking")
+    public Mono<PageResponse<CustomerResponse>> findAllCustomers(@ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Min(1) @Max(500) int size,
+                                                                 @ApiParam(required = true, example = "0", defaultValue = "0") @RequestParam(defaultValue = "0") @Min(0) int pageNo) {
+        return reactiveCustomerService.findAll(size, pageNo);
+    }
+
+    @GetMapping(value = "/reactive/customers/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ApiOperation(value = "StreamAllCustomers", notes = "To stream all customers in system as newline delimited json (application/x-ndjson)")
+    public Flux<CustomerResponse> streamAllCustomers() {
+        return reactiveCustomerService.streamAll();
+    }
+
+    @GetMapping(value = "/reactive/customers/{bId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "GetCustomerByBidReactive", notes = "To get customer by its business id, read without blocking")
+    public Mono<CustomerResponse> getCustomerByBid(@Valid @PathVariable("bId") @Pattern(regexp = CUSTOMER_BID_REGEX) final String bId) {
+        return reactiveCustomerService.findByBid(bId);
+    }
+}
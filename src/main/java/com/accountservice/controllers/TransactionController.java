@@ -0,0 +1,57 @@
+package com.accountservice.controllers;
+
+import static com.accountservice.Constants.ACCOUNT_BID_REGEX;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.accountservice.models.CursorPageResponse;
+import com.accountservice.models.TransactionRequest;
+import com.accountservice.models.TransactionResponse;
+import com.accountservice.services.TransactionService;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+
+@RestController
+@Validated
+@Api(value = "transactions", tags = {"transactions"}, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE, authorizations = {})
+public class TransactionController {
+    private final TransactionService transactionService;
+
+    public TransactionController(final TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @PostMapping(value = "/accounts/{bId}/transactions", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "PostTransaction", notes = "To post a debit or credit to an account. Answers once committed, with the transaction's sequence in the "
+        + "account's ledger. A retry with the same Idempotency-Key answers with the transaction already posted")
+    public TransactionResponse postTransaction(@Valid @PathVariable("bId") @Pattern(regexp = ACCOUNT_BID_REGEX) final String bId,
+                                               @Valid @NotNull @RequestBody final TransactionRequest transactionRequest,
+                                               @ApiParam(value = "Client chosen key of the posting, unique per account") @RequestHeader(value = "Idempotency-Key", required = false) @Size(min = 1, max = 64) final String idempotencyKey) {
+        return transactionService.post(bId, transactionRequest, idempotencyKey);
+    }
+
+    @GetMapping(value = "/accounts/{bId}/transactions", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "FindAllTransactions", notes = "To get the transactions of an account in sequence order, paginated by size and the nextCursor of the previous page")
+    public CursorPageResponse<TransactionResponse> findAllTransactions(@Valid @PathVariable("bId") @Pattern(regexp = ACCOUNT_BID_REGEX) final String bId,
+                                                                       @ApiParam(required = true, example = "25", defaultValue = "25") @RequestParam(defaultValue = "25") @Min(1) @Max(500) int size,
+                                                                       @ApiParam(value = "nextCursor of the previous page, omit for the first page") @RequestParam(required = false) final String cursor) {
+        return transactionService.findAll(bId, cursor, size);
+    }
+}
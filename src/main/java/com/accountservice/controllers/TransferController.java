@@ -0,0 +1,34 @@
+package com.accountservice.controllers;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.accountservice.models.TransferRequest;
+import com.accountservice.models.TransferResponse;
+import com.accountservice.services.TransferService;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+
+@RestController
+@Validated
+@Api(value = "transfers", tags = {"transfers"}, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE, authorizations = {})
+public class TransferController {
+    private final TransferService transferService;
+
+    public TransferController(final TransferService transferService) {
+        this.transferService = transferService;
+    }
+
+    @PostMapping(value = "/transfers", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Transfer", notes = "To move money between two accounts of the same currency. Answers once both the debit and the credit are committed")
+    public TransferResponse transfer(@Valid @NotNull @RequestBody final TransferRequest transferRequest) {
+        return transferService.transfer(transferRequest);
+    }
+}
@@ -1,16 +1,77 @@
 package com.accountservice.daos;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.accountservice.entities.Account;
 import com.accountservice.entities.Customer;
 
-public interface AccountRepository extends PagingAndSortingRepository<Account, Long> {
+// Every read joins the customer in the same select, the response needs its business id and loading it per row is N+1
+public interface AccountRepository extends BaseRepository<Account>, JpaSpecificationExecutor<Account>, AccountSliceRepository {
+    String CUSTOMER = "customer";
+    int EXPORT_FETCH_SIZE = 500;
+
+    @Override
+    @EntityGraph(attributePaths = CUSTOMER)
+    Page<Account> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = CUSTOMER)
+    Slice<Account> findAllBy(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = CUSTOMER)
+    Page<Account> findAll(Specification<Account> specification, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = CUSTOMER)
+    List<Account> findByIdGreaterThanOrderByIdAsc(final Long id, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = CUSTOMER)
+    List<Account> findByBusinessIdIn(final Collection<String> bIds);
+
+    @EntityGraph(attributePaths = CUSTOMER)
     Page<Account> findAccountsByCustomer(final Customer customer, Pageable pageable);
 
+    @EntityGraph(attributePaths = CUSTOMER)
+    Slice<Account> findAccountSliceByCustomer(final Customer customer, Pageable pageable);
+
+    @EntityGraph(attributePaths = CUSTOMER)
     Optional<Account> getAccountByBusinessId(final String bId);
+
+    // Counted in the database, no account or Customer.accounts is loaded. Customers without accounts have no rows
+    @Query("select c.businessId as customerBid, a.currency as currency, count(a) as accounts from Account a join a.customer c"
+        + " where c.businessId in :customerBids group by c.businessId, a.currency")
+    List<CustomerCurrencyCount> countByCustomerAndCurrency(@Param("customerBids") final Collection<String> customerBids);
+
+    // All accounts of a customer in one UPDATE, served by the (customer_id, deleted_on, id) index
+    @Modifying
+    @Query("update Account a set a.deletedOn = :deletedOn where a.customer.id = :customerId and a.deletedOn is null")
+    int softDeleteByCustomerId(@Param("customerId") final Long customerId, @Param("deletedOn") final Timestamp deletedOn);
+
+    // Forward-only cursors for exports, rows are pulled from the driver EXPORT_FETCH_SIZE at a time. Must be consumed in a transaction
+    @EntityGraph(attributePaths = CUSTOMER)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    Stream<Account> streamAllByOrderByIdAsc();
+
+    @EntityGraph(attributePaths = CUSTOMER)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    Stream<Account> streamAccountsByCustomerOrderByIdAsc(final Customer customer);
 }
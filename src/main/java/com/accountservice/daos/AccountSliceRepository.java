@@ -0,0 +1,12 @@
+package com.accountservice.daos;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.accountservice.entities.Account;
+
+public interface AccountSliceRepository {
+    // Same rows as findAll(Specification, Pageable) but without the count query
+    Slice<Account> findSlice(final Specification<Account> specification, final Pageable pageable);
+}
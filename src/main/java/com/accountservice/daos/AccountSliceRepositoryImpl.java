@@ -0,0 +1,51 @@
+package com.accountservice.daos;
+
+import java.util.List;
+
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.accountservice.entities.Account;
+
+// Spring Data has no slice variant of the specification queries. One extra row is fetched, its presence tells there is a next page
+class AccountSliceRepositoryImpl implements AccountSliceRepository {
+    private static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+
+    private final EntityManager entityManager;
+
+    AccountSliceRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<Account> findSlice(final Specification<Account> specification, final Pageable pageable) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Account> query = builder.createQuery(Account.class);
+        final Root<Account> root = query.from(Account.class);
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        if (specification != null) {
+            query.where(specification.toPredicate(root, query, builder));
+        }
+
+        final EntityGraph<Account> graph = entityManager.createEntityGraph(Account.class);
+        graph.addAttributeNodes(AccountRepository.CUSTOMER);
+        final TypedQuery<Account> typedQuery = entityManager.createQuery(query)
+            .setHint(FETCH_GRAPH_HINT, graph)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize() + 1);
+
+        final List<Account> accounts = typedQuery.getResultList();
+        final boolean hasNext = accounts.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? accounts.subList(0, pageable.getPageSize()) : accounts, pageable, hasNext);
+    }
+}
@@ -0,0 +1,36 @@
+package com.accountservice.daos;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+// Conditions of the account filters. A null value doesn't restrict, so filters compose with Specification.where(..).and(..)
+public final class AccountSpecifications {
+    private AccountSpecifications() {
+
+    }
+
+    public static Specification<Account> hasCurrency(final String currency) {
+        return currency == null ? null : (root, query, builder) -> builder.equal(root.get("currency"), currency);
+    }
+
+    public static Specification<Account> hasSortCode(final String sortCode) {
+        return sortCode == null ? null : (root, query, builder) -> builder.equal(root.get("sortCode"), sortCode);
+    }
+
+    public static Specification<Account> ofCustomer(final Customer customer) {
+        return customer == null ? null : (root, query, builder) -> builder.equal(root.get("customer"), customer);
+    }
+
+    public static Specification<Account> createdFrom(final LocalDateTime from) {
+        return from == null ? null : (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("createdOn"), Timestamp.valueOf(from));
+    }
+
+    public static Specification<Account> createdBefore(final LocalDateTime to) {
+        return to == null ? null : (root, query, builder) -> builder.lessThan(root.get("createdOn"), Timestamp.valueOf(to));
+    }
+}
@@ -0,0 +1,31 @@
+package com.accountservice.daos;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.accountservice.entities.BaseEntity;
+
+@NoRepositoryBean
+public interface BaseRepository<ENT extends BaseEntity> extends PagingAndSortingRepository<ENT, Long> {
+    // Keyset (seek) page: rows after the given primary key, so deep pages don't scan and discard the preceding rows
+    List<ENT> findByIdGreaterThanOrderByIdAsc(final Long id, Pageable pageable);
+
+    // Same rows as findAll(Pageable) but without the count query
+    Slice<ENT> findAllBy(Pageable pageable);
+
+    List<ENT> findByBusinessIdIn(final Collection<String> bIds);
+
+    // Soft delete as one UPDATE, nothing is loaded. Returns 0 when the row was deleted already
+    @Modifying
+    @Query("update #{#entityName} e set e.deletedOn = :deletedOn where e.id = :id and e.deletedOn is null")
+    int softDeleteById(@Param("id") final Long id, @Param("deletedOn") final Timestamp deletedOn);
+}
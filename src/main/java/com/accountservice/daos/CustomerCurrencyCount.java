@@ -0,0 +1,10 @@
+package com.accountservice.daos;
+
+// Row of the grouped account count, one per customer and currency
+public interface CustomerCurrencyCount {
+    String getCustomerBid();
+
+    String getCurrency();
+
+    long getAccounts();
+}
@@ -4,11 +4,9 @@ import java.util.Optional;
 
 import javax.transaction.Transactional;
 
-import org.springframework.data.repository.PagingAndSortingRepository;
-
 import com.accountservice.entities.Customer;
 
-public interface CustomerRepository extends PagingAndSortingRepository<Customer, Long> {
+public interface CustomerRepository extends BaseRepository<Customer> {
     Optional<Customer> getCustomerByBusinessId(final String bId);
 
     @Transactional
@@ -0,0 +1,130 @@
+package com.accountservice.daos;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.accountservice.models.LedgerEntryType;
+
+// Plain JDBC access to the ledger, postings are written as batches by the ledger writer rather than entity by entity
+@Repository
+public class LedgerDao {
+    private static final String LOCK_POSITIONS = "select id, ledger_sequence, balance from account where id in (:ids) and deleted_on is null order by id for update";
+    private static final String UPDATE_POSITION = "update account set ledger_sequence = ?, balance = ?, modified_on = ? where id = ?";
+    private static final String INSERT = "insert into ledger_entry (account_id, sequence, entry_type, amount, description, posted_on, idempotency_key) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SNAPSHOT = "insert into balance_snapshot (account_id, sequence, balance, taken_on) values (?, ?, ?, ?)";
+    private static final String SELECT_AFTER = "select account_id, sequence, entry_type, amount, description, posted_on, idempotency_key from ledger_entry "
+        + "where account_id = ? and sequence > ? order by sequence limit ?";
+    private static final String SELECT_BY_IDEMPOTENCY_KEY = "select account_id, sequence, entry_type, amount, description, posted_on, idempotency_key from ledger_entry "
+        + "where account_id = ? and idempotency_key = ?";
+    private static final String SELECT_POSITIONS_AFTER = "select id, ledger_sequence, balance from ("
+        + "select id, ledger_sequence, balance from account where id > ? and ledger_sequence > 0 "
+        + "union all select id, ledger_sequence, balance from account_archive where id > ? and ledger_sequence > 0) positions order by id limit ?";
+    private static final String SELECT_SNAPSHOTS = "select account_id, sequence, balance from balance_snapshot where account_id = ? order by sequence";
+    private static final String SELECT_LAST_SNAPSHOT = "select account_id, sequence, balance from balance_snapshot where account_id = ? and sequence <= ? "
+        + "order by sequence desc limit 1";
+    private static final String SUM_BETWEEN = "select coalesce(sum(case when entry_type = 'CREDIT' then amount else -amount end), 0) from ledger_entry "
+        + "where account_id = ? and sequence > ? and sequence <= ?";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LedgerDao(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private static LedgerEntry entry(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return LedgerEntry.builder()
+            .withAccountId(resultSet.getLong("account_id"))
+            .withSequence(resultSet.getLong("sequence"))
+            .withType(LedgerEntryType.valueOf(resultSet.getString("entry_type")))
+            .withAmount(resultSet.getBigDecimal("amount"))
+            .withDescription(resultSet.getString("description"))
+            .withPostedOn(resultSet.getTimestamp("posted_on"))
+            .withIdempotencyKey(resultSet.getString("idempotency_key"))
+            .build();
+    }
+
+    private static LedgerPosition position(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return LedgerPosition.builder()
+            .withAccountId(resultSet.getLong("id"))
+            .withSequence(resultSet.getLong("ledger_sequence"))
+            .withBalance(resultSet.getBigDecimal("balance"))
+            .build();
+    }
+
+    private static LedgerPosition snapshot(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return LedgerPosition.builder()
+            .withAccountId(resultSet.getLong("account_id"))
+            .withSequence(resultSet.getLong("sequence"))
+            .withBalance(resultSet.getBigDecimal("balance"))
+            .build();
+    }
+
+    // Locks the live accounts among the ids, always in id order so concurrent writers can't deadlock, and returns
+    // their positions. Deleted or unknown accounts are missing from the result
+    public Map<Long, LedgerPosition> lockPositions(final Collection<Long> accountIds) {
+        return jdbcTemplate.query(LOCK_POSITIONS, new MapSqlParameterSource("ids", accountIds), LedgerDao::position).stream()
+            .collect(Collectors.toMap(LedgerPosition::getAccountId, position -> position, (first, second) -> first, LinkedHashMap::new));
+    }
+
+    public void updatePositions(final Collection<LedgerPosition> positions, final Timestamp modifiedOn) {
+        jdbcTemplate.getJdbcOperations().batchUpdate(UPDATE_POSITION, positions.stream()
+            .map(position -> new Object[]{position.getSequence(), position.getBalance(), modifiedOn, position.getAccountId()})
+            .collect(Collectors.toList()));
+    }
+
+    public void insert(final List<LedgerEntry> entries) {
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT, entries.stream()
+            .map(entry -> new Object[]{entry.getAccountId(), entry.getSequence(), entry.getType().name(), entry.getAmount(), entry.getDescription(), entry.getPostedOn(),
+                entry.getIdempotencyKey()})
+            .collect(Collectors.toList()));
+    }
+
+    public void insertSnapshots(final List<LedgerPosition> snapshots, final Timestamp takenOn) {
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_SNAPSHOT, snapshots.stream()
+            .map(snapshot -> new Object[]{snapshot.getAccountId(), snapshot.getSequence(), snapshot.getBalance(), takenOn})
+            .collect(Collectors.toList()));
+    }
+
+    public List<LedgerEntry> findAfter(final Long accountId, final long afterSequence, final int limit) {
+        return jdbcTemplate.getJdbcOperations().query(SELECT_AFTER, LedgerDao::entry, accountId, afterSequence, limit);
+    }
+
+    public Optional<LedgerEntry> findByIdempotencyKey(final Long accountId, final String idempotencyKey) {
+        return jdbcTemplate.getJdbcOperations().query(SELECT_BY_IDEMPOTENCY_KEY, LedgerDao::entry, accountId, idempotencyKey).stream().findFirst();
+    }
+
+    // Accounts with at least one posting, in id order. Deleted and archived accounts are included, their ledger stays. An
+    // account is archived in one transaction and keeps its id, so a walk through the pages sees it once
+    public List<LedgerPosition> findPositionsAfter(final long afterAccountId, final int limit) {
+        return jdbcTemplate.getJdbcOperations().query(SELECT_POSITIONS_AFTER, LedgerDao::position, afterAccountId, afterAccountId, limit);
+    }
+
+    public List<LedgerPosition> findSnapshots(final Long accountId) {
+        return jdbcTemplate.getJdbcOperations().query(SELECT_SNAPSHOTS, LedgerDao::snapshot, accountId);
+    }
+
+    // What the entries in (afterSequence, toSequence] add to the balance
+    public BigDecimal sumBetween(final Long accountId, final long afterSequence, final long toSequence) {
+        return jdbcTemplate.getJdbcOperations().queryForObject(SUM_BETWEEN, BigDecimal.class, accountId, afterSequence, toSequence);
+    }
+
+    // The balance as of a sequence from the last snapshot at or before it and the entries after the snapshot
+    public BigDecimal rebuildBalance(final Long accountId, final long sequence) {
+        final Optional<LedgerPosition> snapshot = jdbcTemplate.getJdbcOperations().query(SELECT_LAST_SNAPSHOT, LedgerDao::snapshot, accountId, sequence).stream().findFirst();
+        final long snapshotSequence = snapshot.map(LedgerPosition::getSequence).orElse(0L);
+        final BigDecimal snapshotBalance = snapshot.map(LedgerPosition::getBalance).orElse(BigDecimal.ZERO);
+        return snapshotBalance.add(sumBetween(accountId, snapshotSequence, sequence));
+    }
+}
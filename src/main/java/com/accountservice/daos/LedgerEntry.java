@@ -0,0 +1,27 @@
+package com.accountservice.daos;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import com.accountservice.models.LedgerEntryType;
+
+import lombok.Builder;
+import lombok.Value;
+
+// Sequence is 0 until the ledger writer hands one out
+@Value
+@Builder(setterPrefix = "with", toBuilder = true)
+public class LedgerEntry {
+    Long accountId;
+    long sequence;
+    LedgerEntryType type;
+    BigDecimal amount;
+    String description;
+    Timestamp postedOn;
+    String idempotencyKey;
+
+    // What the entry adds to the balance
+    public BigDecimal getSignedAmount() {
+        return type == LedgerEntryType.CREDIT ? amount : amount.negate();
+    }
+}
@@ -0,0 +1,15 @@
+package com.accountservice.daos;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+import lombok.Value;
+
+// Last sequence handed out to an account and the balance as of that sequence
+@Value
+@Builder(setterPrefix = "with")
+public class LedgerPosition {
+    Long accountId;
+    long sequence;
+    BigDecimal balance;
+}
@@ -0,0 +1,106 @@
+package com.accountservice.daos;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+import io.r2dbc.spi.Row;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking reads of accounts over R2DBC. Rows come with their customer's business id, the rest of the customer isn't loaded
+@Repository
+@ConditionalOnProperty(name = "account-service.reactive.enabled", havingValue = "true")
+public class ReactiveAccountDao {
+    private static final String SELECT = "select a.id, a.business_id, a.created_on, a.modified_on, a.name, a.description, a.sort_code, a.number, "
+        + "a.currency, a.balance, c.id as customer_id, c.business_id as customer_business_id from account a join customer c on c.id = a.customer_id "
+        + "where a.deleted_on is null";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveAccountDao(final DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    private static Timestamp timestamp(final Row row, final String column) {
+        final LocalDateTime value = row.get(column, LocalDateTime.class);
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    private static Account account(final Row row) {
+        final Customer customer = new Customer();
+        customer.setId(row.get("customer_id", Long.class));
+        customer.setBusinessId(row.get("customer_business_id", String.class));
+
+        final Account account = new Account();
+        account.setId(row.get("id", Long.class));
+        account.setBusinessId(row.get("business_id", String.class));
+        account.setCreatedOn(timestamp(row, "created_on"));
+        account.setModifiedOn(timestamp(row, "modified_on"));
+        account.setName(row.get("name", String.class));
+        account.setDescription(row.get("description", String.class));
+        account.setSortCode(row.get("sort_code", String.class));
+        account.setNumber(row.get("number", Integer.class));
+        account.setCurrency(row.get("currency", String.class));
+        account.setBalance(row.get("balance", BigDecimal.class));
+        account.setCustomer(customer);
+        return account;
+    }
+
+    public Mono<Account> findByBusinessId(final String businessId) {
+        return databaseClient.sql(SELECT + " and a.business_id = :businessId")
+            .bind("businessId", businessId)
+            .map((row, metadata) -> account(row))
+            .one();
+    }
+
+    public Flux<Account> findAll(final int limit, final long offset) {
+        return databaseClient.sql(SELECT + " order by a.id limit :limit offset :offset")
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map((row, metadata) -> account(row))
+            .all();
+    }
+
+    public Flux<Account> findAll() {
+        return databaseClient.sql(SELECT + " order by a.id")
+            .map((row, metadata) -> account(row))
+            .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("select count(*) from account where deleted_on is null")
+            .map((row, metadata) -> row.get(0, Long.class))
+            .one();
+    }
+
+    public Flux<Account> findByCustomer(final long customerId, final int limit, final long offset) {
+        return databaseClient.sql(SELECT + " and a.customer_id = :customerId order by a.id limit :limit offset :offset")
+            .bind("customerId", customerId)
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map((row, metadata) -> account(row))
+            .all();
+    }
+
+    public Flux<Account> findByCustomer(final long customerId) {
+        return databaseClient.sql(SELECT + " and a.customer_id = :customerId order by a.id")
+            .bind("customerId", customerId)
+            .map((row, metadata) -> account(row))
+            .all();
+    }
+
+    public Mono<Long> countByCustomer(final long customerId) {
+        return databaseClient.sql("select count(*) from account where deleted_on is null and customer_id = :customerId")
+            .bind("customerId", customerId)
+            .map((row, metadata) -> row.get(0, Long.class))
+            .one();
+    }
+}
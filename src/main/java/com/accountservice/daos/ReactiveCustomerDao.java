@@ -0,0 +1,70 @@
+package com.accountservice.daos;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.accountservice.entities.Customer;
+
+import io.r2dbc.spi.Row;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking reads of customers over R2DBC. Accounts are not loaded
+@Repository
+@ConditionalOnProperty(name = "account-service.reactive.enabled", havingValue = "true")
+public class ReactiveCustomerDao {
+    private static final String SELECT = "select id, business_id, created_on, modified_on, first_name, last_name from customer where deleted_on is null";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveCustomerDao(final DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    private static Timestamp timestamp(final Row row, final String column) {
+        final LocalDateTime value = row.get(column, LocalDateTime.class);
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    private static Customer customer(final Row row) {
+        final Customer customer = new Customer();
+        customer.setId(row.get("id", Long.class));
+        customer.setBusinessId(row.get("business_id", String.class));
+        customer.setCreatedOn(timestamp(row, "created_on"));
+        customer.setModifiedOn(timestamp(row, "modified_on"));
+        customer.setFirstName(row.get("first_name", String.class));
+        customer.setLastName(row.get("last_name", String.class));
+        return customer;
+    }
+
+    public Mono<Customer> findByBusinessId(final String businessId) {
+        return databaseClient.sql(SELECT + " and business_id = :businessId")
+            .bind("businessId", businessId)
+            .map((row, metadata) -> customer(row))
+            .one();
+    }
+
+    public Flux<Customer> findAll(final int limit, final long offset) {
+        return databaseClient.sql(SELECT + " order by id limit :limit offset :offset")
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map((row, metadata) -> customer(row))
+            .all();
+    }
+
+    public Flux<Customer> findAll() {
+        return databaseClient.sql(SELECT + " order by id")
+            .map((row, metadata) -> customer(row))
+            .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("select count(*) from customer where deleted_on is null")
+            .map((row, metadata) -> row.get(0, Long.class))
+            .one();
+    }
+}
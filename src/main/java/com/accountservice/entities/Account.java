@@ -1,14 +1,20 @@
 package com.accountservice.entities;
 
+import java.math.BigDecimal;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.Where;
+
 import lombok.Data;
 
 @Data
 @Entity
+@Where(clause = BaseEntity.NOT_DELETED)
 public class Account extends BaseEntity {
     @Column(nullable = false)
     String name;
@@ -20,8 +26,31 @@ public class Account extends BaseEntity {
     Integer number;
     @Column(nullable = false)
     String currency;
+    // Maintained by ledger postings and transfers, never written through JPA
+    @Column(insertable = false, updatable = false)
+    BigDecimal balance = BigDecimal.ZERO;
 
-    @ManyToOne
-    @JoinColumn(nullable = false, insertable = false, updatable = false, name = "customer_id")
+    // Lazy so that page queries decide themselves whether to join the customer, see AccountRepository
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, updatable = false, name = "customer_id")
     Customer customer;
+
+    @Override
+    public Account copy() {
+        final Account copy = copyTo(new Account());
+        copy.setName(name);
+        copy.setDescription(description);
+        copy.setSortCode(sortCode);
+        copy.setNumber(number);
+        copy.setCurrency(currency);
+        copy.setBalance(balance);
+        copy.setCustomer(customer == null ? null : customer.copy());
+        return copy;
+    }
+
+    // Deleting the customer deletes its accounts
+    @Override
+    public String ownerBusinessId() {
+        return customer == null ? null : customer.getBusinessId();
+    }
 }
@@ -5,24 +5,28 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
 import javax.persistence.PrePersist;
-import javax.persistence.PreRemove;
 import javax.persistence.PreUpdate;
-
-import org.apache.commons.lang3.RandomStringUtils;
-import org.hibernate.annotations.Where;
+import javax.persistence.SequenceGenerator;
 
 import lombok.Data;
 
 @Data
-@Where(clause = "deleted_on is null")
 @MappedSuperclass
+@EntityListeners(BusinessIdListener.class)
 public abstract class BaseEntity implements Serializable {
+    // Hibernate doesn't inherit @Where from a mapped superclass, each entity declares it with this clause
+    public static final String NOT_DELETED = "deleted_on is null";
+
+    // Pooled sequence: ids are handed out in memory from blocks of 50 so inserts can be JDBC batched
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity_id_sequence")
+    @SequenceGenerator(name = "entity_id_sequence", sequenceName = "entity_id_sequence", allocationSize = 50)
     Long id;
 
     @Column(nullable = false, unique = true, name = "business_id")
@@ -37,9 +41,25 @@ public abstract class BaseEntity implements Serializable {
     @Column(name = "deleted_on")
     Timestamp deletedOn;
 
+    // Cached entities are handed out as copies, see BusinessIdCache
+    public abstract BaseEntity copy();
+
+    // Business id of the entity whose deletion cascades to this one, null when there is none
+    public String ownerBusinessId() {
+        return null;
+    }
+
+    protected <T extends BaseEntity> T copyTo(final T copy) {
+        copy.setId(id);
+        copy.setBusinessId(businessId);
+        copy.setCreatedOn(createdOn);
+        copy.setModifiedOn(modifiedOn);
+        copy.setDeletedOn(deletedOn);
+        return copy;
+    }
+
     @PrePersist
     void setDefaultValues() {
-        businessId = String.format("%s%s", this.getClass().getSimpleName().substring(0, 2).toUpperCase(), RandomStringUtils.randomNumeric(12, 12));
         createdOn = Timestamp.valueOf(LocalDateTime.now());
     }
 
@@ -47,9 +67,4 @@ public abstract class BaseEntity implements Serializable {
     void setModifiedDate() {
         modifiedOn = Timestamp.valueOf(LocalDateTime.now());
     }
-
-    @PreRemove
-    void setDeletedDate() {
-        deletedOn = Timestamp.valueOf(LocalDateTime.now());
-    }
 }
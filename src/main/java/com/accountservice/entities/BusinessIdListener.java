@@ -0,0 +1,19 @@
+package com.accountservice.entities;
+
+import javax.persistence.PrePersist;
+
+import com.accountservice.generators.BusinessIdGenerator;
+
+// Instantiated by Hibernate through Spring's bean container, so the configured generator is injected
+public class BusinessIdListener {
+    private final BusinessIdGenerator businessIdGenerator;
+
+    public BusinessIdListener(final BusinessIdGenerator businessIdGenerator) {
+        this.businessIdGenerator = businessIdGenerator;
+    }
+
+    @PrePersist
+    void setBusinessId(final BaseEntity entity) {
+        entity.setBusinessId(businessIdGenerator.generate(entity.getClass()));
+    }
+}
@@ -8,10 +8,13 @@ import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.Where;
+
 import lombok.Data;
 
 @Data
 @Entity
+@Where(clause = BaseEntity.NOT_DELETED)
 public class Customer extends BaseEntity {
     @Column(nullable = false)
     String firstName;
@@ -21,4 +24,13 @@ public class Customer extends BaseEntity {
 
     @OneToMany(orphanRemoval = true, cascade = CascadeType.ALL, mappedBy = "customer", fetch = FetchType.LAZY)
     List<Account> accounts;
+
+    // Accounts are left out, they are never loaded through a cached customer
+    @Override
+    public Customer copy() {
+        final Customer copy = copyTo(new Customer());
+        copy.setFirstName(firstName);
+        copy.setLastName(lastName);
+        return copy;
+    }
 }
@@ -0,0 +1,14 @@
+package com.accountservice.exceptions;
+
+public class InvalidDataException extends RuntimeException {
+    private final String field;
+
+    public InvalidDataException(final String field, final String message) {
+        super(message);
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
@@ -0,0 +1,7 @@
+package com.accountservice.exceptions;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.accountservice.generators;
+
+import com.accountservice.entities.BaseEntity;
+
+// Mints the public business id of a new entity: a two letter entity prefix followed by 12 digits (see Constants)
+public interface BusinessIdGenerator {
+    int DIGITS = 12;
+
+    String generate(final Class<? extends BaseEntity> type);
+
+    default String prefixOf(final Class<? extends BaseEntity> type) {
+        return type.getSimpleName().substring(0, 2).toUpperCase();
+    }
+}
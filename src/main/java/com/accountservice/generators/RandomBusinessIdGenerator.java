@@ -0,0 +1,19 @@
+package com.accountservice.generators;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.accountservice.entities.BaseEntity;
+
+// The original strategy, kept for comparison. Never starts with 0, those ids are left to SequenceBusinessIdGenerator
+@Component
+@ConditionalOnProperty(name = "account-service.business-id.generator", havingValue = "random")
+public class RandomBusinessIdGenerator implements BusinessIdGenerator {
+    private static final String FIRST_DIGITS = "123456789";
+
+    @Override
+    public String generate(final Class<? extends BaseEntity> type) {
+        return String.format("%s%s%s", prefixOf(type), RandomStringUtils.random(1, FIRST_DIGITS), RandomStringUtils.randomNumeric(DIGITS - 1, DIGITS - 1));
+    }
+}
@@ -0,0 +1,98 @@
+package com.accountservice.generators;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.accountservice.entities.BaseEntity;
+
+// Ids come from a database sequence in blocks so instances never mint the same one, ids already taken are skipped
+@Component
+@ConditionalOnProperty(name = "account-service.business-id.generator", havingValue = "sequence", matchIfMissing = true)
+public class SequenceBusinessIdGenerator implements BusinessIdGenerator {
+    static final String MARKER = "0";
+    static final int SEQUENCE_DIGITS = DIGITS - MARKER.length();
+    static final long MAX_SEQUENCE = 99_999_999_999L;
+    // The increment of the sequences, see V9__business_id_sequences.sql
+    static final int BLOCK_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Class<? extends BaseEntity>, Block> blocks = new ConcurrentHashMap<>();
+
+    public SequenceBusinessIdGenerator(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private static String pad(final long value, final int digits) {
+        final String text = Long.toString(value);
+        final StringBuilder padded = new StringBuilder(digits);
+        for (int i = text.length(); i < digits; i++) {
+            padded.append('0');
+        }
+        return padded.append(text).toString();
+    }
+
+    // Table names follow Spring's physical naming strategy, i.e. the snake cased entity name
+    static String tableOf(final Class<? extends BaseEntity> type) {
+        return type.getSimpleName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+
+    @Override
+    public String generate(final Class<? extends BaseEntity> type) {
+        return blocks.computeIfAbsent(type, Block::new).next();
+    }
+
+    // A lock rather than synchronized, a virtual thread waiting for the next block unmounts instead of pinning its carrier
+    private final class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final String table;
+        private final String prefix;
+        private long next;
+        private long end;
+        private Set<String> taken = Set.of();
+
+        private Block(final Class<? extends BaseEntity> type) {
+            this.table = tableOf(type);
+            this.prefix = prefixOf(type) + MARKER;
+        }
+
+        private String next() {
+            lock.lock();
+            try {
+                while (true) {
+                    if (next == end) {
+                        allocate();
+                    }
+                    final String id = prefix + pad(next++, SEQUENCE_DIGITS);
+                    if (!taken.contains(id)) {
+                        return id;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Soft deleted and archived rows are looked at too, their ids stay taken
+        private void allocate() {
+            final long start = jdbcTemplate.queryForObject(String.format("select next value for %s_business_id_sequence", table), Long.class);
+            if (start + BLOCK_SIZE - 1 > MAX_SEQUENCE) {
+                throw new IllegalStateException(String.format("Business ids of %s are exhausted", table));
+            }
+            final String first = prefix + pad(start, SEQUENCE_DIGITS);
+            final String last = prefix + pad(start + BLOCK_SIZE - 1, SEQUENCE_DIGITS);
+            taken = new HashSet<>(jdbcTemplate.queryForList(
+                String.format("select business_id from %1$s where business_id between ? and ?"
+                    + " union all select business_id from %1$s_archive where business_id between ? and ?", table),
+                String.class, first, last, first, last));
+            next = start;
+            end = start + BLOCK_SIZE;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.accountservice.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// Samples INFO and lower events of the configured loggers before they are formatted, WARN and ERROR always pass
+public class SamplingTurboFilter extends TurboFilter {
+    private String loggerPrefix = "com.accountservice";
+    private double sampleRate = 1.0;
+
+    public void setLoggerPrefix(final String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setSampleRate(final double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void start() {
+        if (sampleRate < 0 || sampleRate > 1) {
+            addError(String.format("Sample rate must be between 0 and 1 but was %s", sampleRate));
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                              final Object[] params, final Throwable throwable) {
+        if (!isStarted() || sampleRate >= 1 || level == null || level.isGreaterOrEqual(Level.WARN)
+            || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
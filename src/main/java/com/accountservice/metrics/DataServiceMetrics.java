@@ -0,0 +1,68 @@
+package com.accountservice.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.exceptions.InvalidDataException;
+import com.accountservice.services.DataService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Times the service operations per entity and outcome, repository calls are timed by Spring Boot
+@Aspect
+@Component
+public class DataServiceMetrics {
+    public static final String METRIC_NAME = "account-service.data";
+
+    private final MeterRegistry meterRegistry;
+
+    public DataServiceMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static String outcomeOf(final Throwable throwable) {
+        if (throwable == null) {
+            return "SUCCESS";
+        }
+        if (throwable instanceof DataNotFoundException) {
+            return "NOT_FOUND";
+        }
+        if (throwable instanceof InvalidDataException) {
+            return "INVALID";
+        }
+        return "ERROR";
+    }
+
+    @Around("execution(public * com.accountservice.services.DataService+.findAll(..))"
+        + " || execution(public * com.accountservice.services.DataService+.findAllAfter(..))"
+        + " || execution(public * com.accountservice.services.DataService+.findByBid(..))"
+        + " || execution(public * com.accountservice.services.DataService+.findByBids(..))"
+        + " || execution(public * com.accountservice.services.DataService+.create(..))"
+        + " || execution(public * com.accountservice.services.DataService+.createAll(..))"
+        + " || execution(public * com.accountservice.services.DataService+.delete(..))"
+        + " || execution(public * com.accountservice.services.AccountService+.getAccountsForACustomer(..))"
+        + " || execution(public * com.accountservice.services.AccountService+.export*(..))")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            failure = throwable;
+            throw throwable;
+        } finally {
+            sample.stop(Timer
+                .builder(METRIC_NAME)
+                .description("Account service data operations")
+                .tag("entity", ((DataService<?, ?, ?>) joinPoint.getTarget()).getName())
+                .tag("operation", joinPoint.getSignature().getName())
+                .tag("outcome", outcomeOf(failure))
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.accountservice.models;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Value;
+
+// Conditions of the accounts page, absent ones don't filter. createdFrom is inclusive and createdTo exclusive
+@Value
+@Builder(setterPrefix = "with")
+public class AccountFilter {
+    String currency;
+
+    String sortCode;
+
+    String customerBid;
+
+    LocalDateTime createdFrom;
+
+    LocalDateTime createdTo;
+
+    // Sort key and optional direction, "createdOn,desc". Rows with the same key are ordered by id
+    String sort;
+}
@@ -1,6 +1,8 @@
 package com.accountservice.models;
 
+import static com.accountservice.Constants.CURRENCY_REGEX;
 import static com.accountservice.Constants.CUSTOMER_BID_REGEX;
+import static com.accountservice.Constants.SORT_CODE_REGEX;
 
 import java.io.Serializable;
 
@@ -10,8 +12,6 @@ import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.Size;
 
-import org.hibernate.validator.constraints.Currency;
-
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import io.swagger.annotations.ApiModel;
@@ -38,7 +38,7 @@ public class AccountRequest implements Serializable {
 
     @ApiModelProperty(required = true, value = "Sort code of the account", example = "AXAXAXAXA")
     @NotBlank
-    @Pattern(regexp = "[0-9]{6,8}")
+    @Pattern(regexp = SORT_CODE_REGEX)
     String sortCode;
 
     @ApiModelProperty(required = true, value = "Account number", example = "12345671212")
@@ -47,7 +47,7 @@ public class AccountRequest implements Serializable {
     Integer number;
 
     @ApiModelProperty(required = true, value = "Currency of the account", example = "GBP")
-    @Currency(value = {"GBP", "EUR"})
+    @Pattern(regexp = CURRENCY_REGEX)
     @NotBlank
     String currency;
 
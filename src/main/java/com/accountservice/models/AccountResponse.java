@@ -1,6 +1,7 @@
 package com.accountservice.models;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -36,6 +37,9 @@ public class AccountResponse implements Serializable {
     @ApiModelProperty(required = true, value = "Account currency", example = "GBP")
     String currency;
 
+    @ApiModelProperty(required = true, value = "Balance of the account after all its committed transactions", example = "10.50")
+    BigDecimal balance;
+
     @ApiModelProperty(required = true, value = "Account creation date")
     LocalDateTime createdOn;
 
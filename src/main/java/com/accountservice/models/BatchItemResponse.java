@@ -0,0 +1,28 @@
+package com.accountservice.models;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("Result of one item of a batch request")
+public class BatchItemResponse<T extends Serializable> {
+    @ApiModelProperty(required = true, value = "Position of the item in the request. Its 0 based", example = "0")
+    int index;
+
+    @ApiModelProperty(required = true, value = "Outcome of the item", example = "CREATED")
+    BatchItemStatus status;
+
+    @ApiModelProperty(value = "Created data, present when the item is CREATED")
+    T data;
+
+    @ApiModelProperty(value = "Reason of the failure, present when the item is FAILED")
+    ErrorMessage error;
+}
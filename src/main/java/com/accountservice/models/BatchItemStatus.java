@@ -0,0 +1,5 @@
+package com.accountservice.models;
+
+public enum BatchItemStatus {
+    CREATED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.accountservice.models;
+
+public enum CountMode {
+    EXACT, NONE
+}
@@ -0,0 +1,38 @@
+package com.accountservice.models;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("To get cursor (keyset) paginated result")
+public class CursorPageResponse<T extends Serializable> implements Iterable<T> {
+    @ApiModelProperty(
+        required = true,
+        value = "List of responses on the current page"
+    )
+    private final List<T> content;
+    @ApiModelProperty(
+        required = true,
+        value = "Page size"
+    )
+    private final int size;
+    @ApiModelProperty(
+        value = "Opaque cursor to pass for the next page. Absent on the last page"
+    )
+    private final String nextCursor;
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+}
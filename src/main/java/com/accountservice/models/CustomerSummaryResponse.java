@@ -0,0 +1,23 @@
+package com.accountservice.models;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@ApiModel("Account totals of a customer")
+public class CustomerSummaryResponse implements Serializable {
+    @ApiModelProperty(required = true, value = "Customer id", example = "CU12345678912")
+    String customerId;
+
+    @ApiModelProperty(required = true, value = "Number of accounts of the customer", example = "3")
+    long accounts;
+
+    @ApiModelProperty(required = true, value = "Number of accounts of the customer per currency", example = "{\"GBP\": 2, \"EUR\": 1}")
+    Map<String, Long> accountsByCurrency;
+}
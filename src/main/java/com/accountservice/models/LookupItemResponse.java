@@ -0,0 +1,25 @@
+package com.accountservice.models;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("Result of one business id of a lookup request")
+public class LookupItemResponse<T extends Serializable> {
+    @ApiModelProperty(required = true, value = "Business id as given in the request", example = "AC12345678912")
+    String id;
+
+    @ApiModelProperty(required = true, value = "Whether the business id was found", example = "FOUND")
+    LookupItemStatus status;
+
+    @ApiModelProperty(value = "Found data, present when the item is FOUND")
+    T data;
+}
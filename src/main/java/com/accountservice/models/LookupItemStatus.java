@@ -0,0 +1,5 @@
+package com.accountservice.models;
+
+public enum LookupItemStatus {
+    FOUND, NOT_FOUND
+}
@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Builder;
@@ -11,6 +13,7 @@ import lombok.Value;
 
 @Value
 @Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @ApiModel("To get paginated result")
 public class PageResponse<T extends Serializable> implements Iterable<T> {
     @ApiModelProperty(
@@ -24,20 +27,28 @@ public class PageResponse<T extends Serializable> implements Iterable<T> {
     )
     private final int size;
     @ApiModelProperty(
-        required = true,
-        value = "Total count"
+        value = "Total count. Absent when the count mode is NONE"
     )
-    private final long totalSize;
+    private final Long totalSize;
     @ApiModelProperty(
         required = true,
         value = "Current page number. Its 0 based. i.e firstpage =0, secondpage=1 "
     )
     private final int page;
+    @ApiModelProperty(
+        value = "Total pages. Absent when the count mode is NONE"
+    )
+    private final Integer totalPages;
+    @ApiModelProperty(
+        required = true,
+        value = "Whether a page exists after the current one"
+    )
+    private final boolean hasNext;
     @ApiModelProperty(
         required = true,
-        value = "Total pages"
+        value = "How the totals were computed. EXACT runs a count query, NONE skips it"
     )
-    private final int totalPages;
+    private final CountMode countMode;
 
     @Override
     public Iterator<T> iterator() {
@@ -0,0 +1,36 @@
+package com.accountservice.models;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@ApiModel("Model to post a transaction to an account")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class TransactionRequest implements Serializable {
+    @ApiModelProperty(required = true, value = "Whether money leaves (DEBIT) or enters (CREDIT) the account", example = "CREDIT")
+    @NotNull
+    LedgerEntryType type;
+
+    @ApiModelProperty(required = true, value = "Amount in the account currency", example = "10.50")
+    @NotNull
+    @Positive
+    @Digits(integer = 15, fraction = 4)
+    BigDecimal amount;
+
+    @ApiModelProperty(value = "Description of the transaction", example = "Salary")
+    @Size(max = 255)
+    String description;
+}
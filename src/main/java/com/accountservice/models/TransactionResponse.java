@@ -0,0 +1,36 @@
+package com.accountservice.models;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@ApiModel("Transaction posted to an account")
+public class TransactionResponse implements Serializable {
+    @ApiModelProperty(required = true, value = "Account id", example = "AC12345678912")
+    String accountId;
+
+    @ApiModelProperty(required = true, value = "Position of the transaction in the account's ledger, starting at 1 without gaps", example = "1")
+    long sequence;
+
+    @ApiModelProperty(required = true, value = "Transaction type", example = "CREDIT")
+    LedgerEntryType type;
+
+    @ApiModelProperty(required = true, value = "Amount in the account currency", example = "10.50")
+    BigDecimal amount;
+
+    @ApiModelProperty(value = "Description of the transaction", example = "Salary")
+    String description;
+
+    @ApiModelProperty(required = true, value = "Transaction posting date")
+    LocalDateTime postedOn;
+}
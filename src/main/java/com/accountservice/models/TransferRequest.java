@@ -0,0 +1,45 @@
+package com.accountservice.models;
+
+import static com.accountservice.Constants.ACCOUNT_BID_REGEX;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@ApiModel("Model to transfer money between two accounts")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class TransferRequest implements Serializable {
+    @ApiModelProperty(required = true, value = "Account the money leaves", example = "AC123456789123")
+    @NotNull
+    @Pattern(regexp = ACCOUNT_BID_REGEX)
+    String fromAccountBid;
+
+    @ApiModelProperty(required = true, value = "Account the money enters, in the same currency", example = "AC123456789124")
+    @NotNull
+    @Pattern(regexp = ACCOUNT_BID_REGEX)
+    String toAccountBid;
+
+    @ApiModelProperty(required = true, value = "Amount in the accounts' currency", example = "10.50")
+    @NotNull
+    @Positive
+    @Digits(integer = 15, fraction = 4)
+    BigDecimal amount;
+
+    @ApiModelProperty(value = "Description of the transfer, on both transactions", example = "Rent")
+    @Size(max = 255)
+    String description;
+}
@@ -0,0 +1,22 @@
+package com.accountservice.models;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@ApiModel("Transfer committed between two accounts")
+public class TransferResponse implements Serializable {
+    @ApiModelProperty(required = true, value = "DEBIT posted to the account the money left")
+    TransactionResponse debit;
+
+    @ApiModelProperty(required = true, value = "CREDIT posted to the account the money entered")
+    TransactionResponse credit;
+}
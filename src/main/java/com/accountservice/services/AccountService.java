@@ -1,10 +1,25 @@
 package com.accountservice.services;
 
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 import com.accountservice.entities.Account;
+import com.accountservice.models.AccountFilter;
 import com.accountservice.models.AccountRequest;
 import com.accountservice.models.AccountResponse;
+import com.accountservice.models.CountMode;
 import com.accountservice.models.PageResponse;
 
 public interface AccountService extends DataService<AccountResponse, AccountRequest, Account> {
+    PageResponse<AccountResponse> findAll(final AccountFilter filter, int size, int pageNo, final CountMode countMode, final Predicate<String> notModified);
+
     PageResponse<AccountResponse> getAccountsForACustomer(final String customerBid, int pageNo, int size);
+
+    PageResponse<AccountResponse> getAccountsForACustomer(final String customerBid, int pageNo, int size, final CountMode countMode);
+
+    PageResponse<AccountResponse> getAccountsForACustomer(final String customerBid, int pageNo, int size, final CountMode countMode, final Predicate<String> notModified);
+
+    void exportAll(final Consumer<? super AccountResponse> consumer);
+
+    void exportAccountsForACustomer(final String customerBid, final Consumer<? super AccountResponse> consumer);
 }
@@ -1,44 +1,158 @@
 package com.accountservice.services;
 
+import static com.accountservice.daos.AccountSpecifications.createdBefore;
+import static com.accountservice.daos.AccountSpecifications.createdFrom;
+import static com.accountservice.daos.AccountSpecifications.hasCurrency;
+import static com.accountservice.daos.AccountSpecifications.hasSortCode;
+import static com.accountservice.daos.AccountSpecifications.ofCustomer;
 import static java.util.Optional.ofNullable;
 
 import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.accountservice.caches.BusinessIdCache;
 import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.BaseRepository;
 import com.accountservice.entities.Account;
 import com.accountservice.entities.Customer;
 import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.AccountFilter;
 import com.accountservice.models.AccountRequest;
 import com.accountservice.models.AccountResponse;
+import com.accountservice.models.CountMode;
 import com.accountservice.models.PageResponse;
 
 @Service
 public class AccountServiceImpl implements AccountService {
     private static final Logger logger = LoggerFactory.getLogger(AccountServiceImpl.class);
+    private static final String ID = "id";
     private final AccountRepository accountRepository;
     private final CustomerService customerService;
+    private final BusinessIdCache businessIdCache;
+    private final EntityManager entityManager;
 
     public AccountServiceImpl(final AccountRepository accountRepository,
-                              final CustomerService customerService) {
+                              final CustomerService customerService,
+                              final BusinessIdCache businessIdCache,
+                              final EntityManager entityManager) {
         this.accountRepository = accountRepository;
         this.customerService = customerService;
+        this.businessIdCache = businessIdCache;
+        this.entityManager = entityManager;
+    }
+
+    // Id breaks ties of the sort key, so rows with equal keys neither repeat nor go missing across pages
+    static Sort sortOf(final String sort) {
+        if (sort == null) {
+            return Sort.by(ID);
+        }
+        final String[] keyAndDirection = sort.split(",");
+        final Sort.Direction direction = keyAndDirection.length > 1 ? Sort.Direction.fromString(keyAndDirection[1]) : Sort.Direction.ASC;
+        return ID.equals(keyAndDirection[0]) ? Sort.by(direction, ID) : Sort.by(direction, keyAndDirection[0], ID);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PageResponse<AccountResponse> findAll(final AccountFilter filter,
+                                                 int size,
+                                                 int pageNo,
+                                                 final CountMode countMode,
+                                                 final Predicate<String> notModified) {
+        logger.info("Retrieving Account for page no {} with max size {}, count mode {} and {}", pageNo, size, countMode, filter);
+        final Pageable pageable = PageRequest.of(pageNo, size, sortOf(filter.getSort()));
+        final Specification<Account> specification = Specification.where(hasCurrency(filter.getCurrency()))
+            .and(hasSortCode(filter.getSortCode()))
+            .and(ofCustomer(filter.getCustomerBid() == null ? null : getCustomer(filter.getCustomerBid())))
+            .and(createdFrom(filter.getCreatedFrom()))
+            .and(createdBefore(filter.getCreatedTo()));
+        final Slice<Account> slice = CountMode.NONE == countMode
+            ? accountRepository.findSlice(specification, pageable)
+            : accountRepository.findAll(specification, pageable);
+        return notModified.test(ETags.of(slice)) ? null : mapToPageResponse(slice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public PageResponse<AccountResponse> getAccountsForACustomer(final String customer,
                                                                  int pageNo,
                                                                  int size) {
-        logger.info("Finding all accounts for customer with bid {}", customer);
-        return mapToPageResponse(accountRepository.findAccountsByCustomer(getCustomer(customer), Pageable.ofSize(size).withPage(pageNo)));
+        return getAccountsForACustomer(customer, pageNo, size, CountMode.EXACT);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<AccountResponse> getAccountsForACustomer(final String customer,
+                                                                 int pageNo,
+                                                                 int size,
+                                                                 final CountMode countMode) {
+        return getAccountsForACustomer(customer, pageNo, size, countMode, tag -> false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<AccountResponse> getAccountsForACustomer(final String customer,
+                                                                 int pageNo,
+                                                                 int size,
+                                                                 final CountMode countMode,
+                                                                 final Predicate<String> notModified) {
+        logger.info("Finding all accounts for customer with bid {} and count mode {}", customer, countMode);
+        final Pageable pageable = Pageable.ofSize(size).withPage(pageNo);
+        final Slice<Account> slice = CountMode.NONE == countMode
+            ? accountRepository.findAccountSliceByCustomer(getCustomer(customer), pageable)
+            : accountRepository.findAccountsByCustomer(getCustomer(customer), pageable);
+        return notModified.test(ETags.of(slice)) ? null : mapToPageResponse(slice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(final Consumer<? super AccountResponse> consumer) {
+        logger.info("Exporting all accounts");
+        try (Stream<Account> accounts = accountRepository.streamAllByOrderByIdAsc()) {
+            export(accounts, consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAccountsForACustomer(final String customer, final Consumer<? super AccountResponse> consumer) {
+        logger.info("Exporting all accounts for customer with bid {}", customer);
+        try (Stream<Account> accounts = accountRepository.streamAccountsByCustomerOrderByIdAsc(getCustomer(customer))) {
+            export(accounts, consumer);
+        }
+    }
+
+    // Exported rows are dropped from the persistence context every fetch so memory stays flat however many rows come out
+    private void export(final Stream<Account> accounts, final Consumer<? super AccountResponse> consumer) {
+        final Iterator<Account> iterator = accounts.iterator();
+        long exported = 0;
+        while (iterator.hasNext()) {
+            consumer.accept(mapResponseFromEntity(iterator.next()));
+            if (++exported % AccountRepository.EXPORT_FETCH_SIZE == 0) {
+                entityManager.clear();
+            }
+        }
+        logger.info("Exported {} accounts", exported);
+    }
 
     @Override
     public Logger getLogger() {
@@ -46,7 +160,7 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
-    public PagingAndSortingRepository<Account, Long> getRepository() {
+    public BaseRepository<Account> getRepository() {
         return accountRepository;
     }
 
@@ -58,6 +172,7 @@ public class AccountServiceImpl implements AccountService {
             .withCreatedOn(entity.getCreatedOn().toLocalDateTime())
             .withModifiedOn(ofNullable(entity.getModifiedOn()).map(Timestamp::toLocalDateTime).orElse(null))
             .withCurrency(entity.getCurrency())
+            .withBalance(entity.getBalance())
             .withAccountId(entity.getBusinessId())
             .withDescription(entity.getDescription())
             .withName(entity.getName())
@@ -68,9 +183,20 @@ public class AccountServiceImpl implements AccountService {
 
     @Override
     public Account mapEntityFromRequest(final AccountRequest accountRequest) {
+        return mapEntityFromRequest(accountRequest, getCustomer(accountRequest.getCustomerBid()));
+    }
+
+    @Override
+    public Function<AccountRequest, Account> batchEntityMapper(final List<AccountRequest> accountRequests) {
+        final Map<String, Customer> customers = customerService.getByBusinessIds(accountRequests.stream().map(AccountRequest::getCustomerBid).collect(Collectors.toSet()));
+        return accountRequest -> mapEntityFromRequest(accountRequest, ofNullable(customers.get(accountRequest.getCustomerBid()))
+            .orElseThrow(() -> customerNotFound(accountRequest.getCustomerBid())));
+    }
+
+    private Account mapEntityFromRequest(final AccountRequest accountRequest, final Customer customer) {
         Account account = new Account();
         account.setCurrency(accountRequest.getCurrency());
-        account.setCustomer(getCustomer(accountRequest.getCustomerBid()));
+        account.setCustomer(customer);
         account.setDescription(accountRequest.getDescription());
         account.setName(accountRequest.getName());
         account.setNumber(accountRequest.getNumber());
@@ -81,7 +207,16 @@ public class AccountServiceImpl implements AccountService {
     private Customer getCustomer(final String bid) {
         return customerService
             .getByBusinessId(bid)
-            .orElseThrow(() -> new DataNotFoundException(String.format("Customer not found for bid '%s'", bid)));
+            .orElseThrow(() -> customerNotFound(bid));
+    }
+
+    private static DataNotFoundException customerNotFound(final String bid) {
+        return new DataNotFoundException(String.format("Customer not found for bid '%s'", bid));
+    }
+
+    @Override
+    public BusinessIdCache getBusinessIdCache() {
+        return businessIdCache;
     }
 
     @Override
@@ -90,7 +225,7 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
-    public Optional<Account> getByBusinessId(String bId) {
+    public Optional<Account> loadByBusinessId(String bId) {
         return accountRepository.getAccountByBusinessId(bId);
     }
 }
@@ -0,0 +1,84 @@
+package com.accountservice.services;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.daos.LedgerPosition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Checks balances and snapshots against the ledger, only up to the sequence as read so concurrent postings can't raise false alarms
+@Component
+public class BalanceChecker {
+    static final String METRIC_NAME = "account-service.ledger.balance-check";
+    private static final Logger logger = LoggerFactory.getLogger(BalanceChecker.class);
+
+    private final LedgerDao ledgerDao;
+    private final int batchSize;
+    private final Counter accounts;
+    private final Counter snapshotMismatches;
+    private final Counter balanceMismatches;
+
+    public BalanceChecker(final LedgerDao ledgerDao,
+                          final MeterRegistry meterRegistry,
+                          @Value("${account-service.ledger.balance-check.batch-size:100}") final int batchSize) {
+        this.ledgerDao = ledgerDao;
+        this.batchSize = batchSize;
+        this.accounts = meterRegistry.counter(METRIC_NAME + ".accounts");
+        this.snapshotMismatches = meterRegistry.counter(METRIC_NAME + ".mismatches", "kind", "snapshot");
+        this.balanceMismatches = meterRegistry.counter(METRIC_NAME + ".mismatches", "kind", "balance");
+    }
+
+    // Returns the number of mismatches found, each is logged as an error
+    public long check() {
+        long mismatches = 0;
+        long checked = 0;
+        long after = 0;
+        List<LedgerPosition> positions;
+        do {
+            positions = ledgerDao.findPositionsAfter(after, batchSize);
+            for (final LedgerPosition position : positions) {
+                mismatches += check(position);
+                accounts.increment();
+                after = position.getAccountId();
+            }
+            checked += positions.size();
+        } while (positions.size() == batchSize);
+        logger.info("Checked balances of {} accounts, {} mismatches", checked, mismatches);
+        return mismatches;
+    }
+
+    private int check(final LedgerPosition position) {
+        int mismatches = 0;
+        BigDecimal history = BigDecimal.ZERO;
+        long sequence = 0;
+        for (final LedgerPosition snapshot : ledgerDao.findSnapshots(position.getAccountId())) {
+            if (snapshot.getSequence() > position.getSequence()) {
+                break;
+            }
+            history = history.add(ledgerDao.sumBetween(position.getAccountId(), sequence, snapshot.getSequence()));
+            sequence = snapshot.getSequence();
+            if (history.compareTo(snapshot.getBalance()) != 0) {
+                logger.error("Snapshot of account {} at sequence {} holds {} but its history sums to {}",
+                    position.getAccountId(), snapshot.getSequence(), snapshot.getBalance(), history);
+                snapshotMismatches.increment();
+                mismatches++;
+            }
+        }
+        final BigDecimal rebuilt = ledgerDao.rebuildBalance(position.getAccountId(), position.getSequence());
+        if (rebuilt.compareTo(position.getBalance()) != 0) {
+            logger.error("Balance of account {} at sequence {} is {} but rebuilds to {}",
+                position.getAccountId(), position.getSequence(), position.getBalance(), rebuilt);
+            balanceMismatches.increment();
+            mismatches++;
+        }
+        return mismatches;
+    }
+}
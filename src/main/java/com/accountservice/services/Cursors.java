@@ -0,0 +1,35 @@
+package com.accountservice.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.accountservice.exceptions.InvalidDataException;
+
+// Opaque cursor for keyset pagination. It only wraps the last seen primary key, clients must not rely on its format
+final class Cursors {
+    private static final String CURSOR_FIELD = "cursor";
+    private static final long FIRST_PAGE_ID = 0L;
+
+    private Cursors() {
+
+    }
+
+    static String encode(final Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE_ID;
+        }
+        try {
+            final long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (id < FIRST_PAGE_ID) {
+                throw new InvalidDataException(CURSOR_FIELD, String.format("Invalid cursor '%s'", cursor));
+            }
+            return id;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidDataException(CURSOR_FIELD, String.format("Invalid cursor '%s'", cursor));
+        }
+    }
+}
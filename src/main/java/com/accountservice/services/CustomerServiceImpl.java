@@ -5,9 +5,11 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Service;
 
+import com.accountservice.caches.BusinessIdCache;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.BaseRepository;
 import com.accountservice.daos.CustomerRepository;
 import com.accountservice.entities.Customer;
 import com.accountservice.models.CustomerRequest;
@@ -17,9 +19,15 @@ import com.accountservice.models.CustomerResponse;
 public class CustomerServiceImpl implements CustomerService {
     private static final Logger logger = LoggerFactory.getLogger(CustomerServiceImpl.class);
     private final CustomerRepository customerRepository;
+    private final AccountRepository accountRepository;
+    private final BusinessIdCache businessIdCache;
 
-    public CustomerServiceImpl(final CustomerRepository customerRepository) {
+    public CustomerServiceImpl(final CustomerRepository customerRepository,
+                               final AccountRepository accountRepository,
+                               final BusinessIdCache businessIdCache) {
         this.customerRepository = customerRepository;
+        this.accountRepository = accountRepository;
+        this.businessIdCache = businessIdCache;
     }
 
     @Override
@@ -28,7 +36,7 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     @Override
-    public PagingAndSortingRepository<Customer, Long> getRepository() {
+    public BaseRepository<Customer> getRepository() {
         return customerRepository;
     }
 
@@ -51,13 +59,32 @@ public class CustomerServiceImpl implements CustomerService {
         return customer;
     }
 
+    // Customer and accounts are two updates whatever the number of accounts, Customer.accounts is never loaded
+    @Override
+    public void softDelete(final Customer customer, final Timestamp deletedOn) {
+        customerRepository.softDeleteById(customer.getId(), deletedOn);
+        accountRepository.softDeleteByCustomerId(customer.getId(), deletedOn);
+    }
+
+    // Deleting a customer cascades to its accounts, their cached copies have to go too
+    @Override
+    public void evict(final Customer customer) {
+        businessIdCache.evict(customer.getBusinessId());
+        businessIdCache.evictOwnedBy(customer.getBusinessId());
+    }
+
+    @Override
+    public BusinessIdCache getBusinessIdCache() {
+        return businessIdCache;
+    }
+
     @Override
     public String getName() {
         return "Customer";
     }
 
     @Override
-    public Optional<Customer> getByBusinessId(final String bId) {
+    public Optional<Customer> loadByBusinessId(final String bId) {
         return customerRepository.getCustomerByBusinessId(bId);
     }
 
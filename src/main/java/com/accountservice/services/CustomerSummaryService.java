@@ -0,0 +1,11 @@
+package com.accountservice.services;
+
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CustomerSummaryResponse;
+import com.accountservice.models.PageResponse;
+
+public interface CustomerSummaryService {
+    CustomerSummaryResponse getSummary(final String customerBid);
+
+    PageResponse<CustomerSummaryResponse> getSummaries(final int size, final int pageNo, final CountMode countMode);
+}
@@ -0,0 +1,81 @@
+package com.accountservice.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerCurrencyCount;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CustomerResponse;
+import com.accountservice.models.CustomerSummaryResponse;
+import com.accountservice.models.PageResponse;
+
+// Account totals come from one grouped query per call, whatever the number of customers
+@Service
+public class CustomerSummaryServiceImpl implements CustomerSummaryService {
+    private static final Logger logger = LoggerFactory.getLogger(CustomerSummaryServiceImpl.class);
+    private final CustomerService customerService;
+    private final AccountRepository accountRepository;
+
+    public CustomerSummaryServiceImpl(final CustomerService customerService,
+                                      final AccountRepository accountRepository) {
+        this.customerService = customerService;
+        this.accountRepository = accountRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerSummaryResponse getSummary(final String customerBid) {
+        logger.info("Summarising accounts of customer with bid {}", customerBid);
+        if (customerService.getByBusinessId(customerBid).isEmpty()) {
+            throw new DataNotFoundException("bid", String.format("Customer not found with bid '%s'", customerBid));
+        }
+        return summaries(List.of(customerBid)).get(0);
+    }
+
+    // Same customers in the same order as the customers page of size and pageNo
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<CustomerSummaryResponse> getSummaries(final int size, final int pageNo, final CountMode countMode) {
+        logger.info("Summarising accounts of customers for page no {} with max size {}", pageNo, size);
+        final PageResponse<CustomerResponse> customers = customerService.findAll(size, pageNo, countMode);
+        final List<CustomerSummaryResponse> content = customers.getContent().isEmpty()
+            ? List.of()
+            : summaries(customers.getContent().stream().map(CustomerResponse::getCustomerId).collect(Collectors.toList()));
+        return PageResponse.<CustomerSummaryResponse>builder()
+            .withContent(content)
+            .withSize(customers.getSize())
+            .withTotalSize(customers.getTotalSize())
+            .withPage(customers.getPage())
+            .withTotalPages(customers.getTotalPages())
+            .withHasNext(customers.isHasNext())
+            .withCountMode(customers.getCountMode())
+            .build();
+    }
+
+    private List<CustomerSummaryResponse> summaries(final Collection<String> customerBids) {
+        final Map<String, Map<String, Long>> counts = accountRepository.countByCustomerAndCurrency(customerBids)
+            .stream()
+            .collect(Collectors.groupingBy(CustomerCurrencyCount::getCustomerBid,
+                Collectors.toMap(CustomerCurrencyCount::getCurrency, CustomerCurrencyCount::getAccounts, Long::sum, TreeMap::new)));
+        return customerBids.stream()
+            .map(customerBid -> {
+                final Map<String, Long> byCurrency = counts.getOrDefault(customerBid, Map.of());
+                return CustomerSummaryResponse.builder()
+                    .withCustomerId(customerBid)
+                    .withAccounts(byCurrency.values().stream().mapToLong(Long::longValue).sum())
+                    .withAccountsByCurrency(byCurrency)
+                    .build();
+            })
+            .collect(Collectors.toList());
+    }
+}
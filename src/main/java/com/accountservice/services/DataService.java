@@ -1,22 +1,74 @@
 package com.accountservice.services;
 
 import java.io.Serializable;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.accountservice.caches.BusinessIdCache;
+import com.accountservice.daos.BaseRepository;
 import com.accountservice.entities.BaseEntity;
 import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.BatchItemResponse;
+import com.accountservice.models.BatchItemStatus;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CursorPageResponse;
+import com.accountservice.models.ErrorMessage;
+import com.accountservice.models.LookupItemResponse;
+import com.accountservice.models.LookupItemStatus;
 import com.accountservice.models.PageResponse;
+import com.accountservice.models.Severity;
 
+// Reads run in read-only transactions, which go to a replica when replicas are configured
 public interface DataService<RES extends Serializable, REQ extends Serializable, ENT extends BaseEntity> {
+    @Transactional(readOnly = true)
     default PageResponse<RES> findAll(final int size, final int pageNo) {
-        getLogger().info("Retrieving {} for page no {} with max size {}", getName(), pageNo, size);
-        return mapToPageResponse(getRepository().findAll(Pageable.ofSize(size).withPage(pageNo)));
+        return findAll(size, pageNo, CountMode.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    default PageResponse<RES> findAll(final int size, final int pageNo, final CountMode countMode) {
+        return findAll(size, pageNo, countMode, tag -> false);
+    }
+
+    // Returns null when notModified accepts the page's ETag
+    @Transactional(readOnly = true)
+    default PageResponse<RES> findAll(final int size, final int pageNo, final CountMode countMode, final Predicate<String> notModified) {
+        getLogger().info("Retrieving {} for page no {} with max size {} and count mode {}", getName(), pageNo, size, countMode);
+        final Slice<ENT> slice = findSlice(size, pageNo, countMode);
+        return notModified.test(ETags.of(slice)) ? null : mapToPageResponse(slice);
+    }
+
+    @Transactional(readOnly = true)
+    default CursorPageResponse<RES> findAllAfter(final String cursor, final int size) {
+        getLogger().info("Retrieving {} after cursor {} with max size {}", getName(), cursor, size);
+        return mapToCursorPageResponse(getRepository().findByIdGreaterThanOrderByIdAsc(Cursors.decode(cursor), Pageable.ofSize(size + 1)), size);
+    }
+
+    // Entities are fetched with one extra row, its presence tells there is a next page without running a count query
+    default CursorPageResponse<RES> mapToCursorPageResponse(final List<ENT> entities, final int size) {
+        final List<ENT> content = entities.size() > size ? entities.subList(0, size) : entities;
+        return (CursorPageResponse<RES>) CursorPageResponse
+            .builder()
+            .withContent(content.stream().map(this::mapResponseFromEntity).collect(Collectors.toList()))
+            .withSize(content.size())
+            .withNextCursor(entities.size() > size ? Cursors.encode(content.get(content.size() - 1).getId()) : null)
+            .build();
     }
 
     default PageResponse<RES> mapToPageResponse(final Page<ENT> page) {
@@ -27,31 +79,144 @@ public interface DataService<RES extends Serializable, REQ extends Serializable,
             .withTotalPages(page.getTotalPages())
             .withTotalSize(page.getTotalElements())
             .withSize(page.getContent().size())
+            .withHasNext(page.hasNext())
+            .withCountMode(CountMode.EXACT)
+            .build();
+    }
+
+    default PageResponse<RES> mapToPageResponse(final Slice<ENT> slice) {
+        if (slice instanceof Page) {
+            return mapToPageResponse((Page<ENT>) slice);
+        }
+        return (PageResponse<RES>) PageResponse
+            .builder()
+            .withContent(slice.getContent().stream().map(this::mapResponseFromEntity).collect(Collectors.toList()))
+            .withPage(slice.getNumber())
+            .withSize(slice.getContent().size())
+            .withHasNext(slice.hasNext())
+            .withCountMode(CountMode.NONE)
             .build();
     }
 
     default RES create(final REQ request) {
-        getLogger().info("Creating {} with data {}", getName(), request);
-        return mapResponseFromEntity(getRepository().save(mapEntityFromRequest(request)));
+        // The payload is only formatted when debug is on
+        getLogger().info("Creating {}", getName());
+        getLogger().debug("Creating {} with data {}", getName(), request);
+        final ENT entity = getRepository().save(mapEntityFromRequest(request));
+        evict(entity);
+        return mapResponseFromEntity(entity);
+    }
+
+    // Items whose references can't be resolved fail on their own, the rest is saved in one transaction with batched inserts
+    default List<BatchItemResponse<RES>> createAll(final List<REQ> requests) {
+        getLogger().info("Creating {} {} in batch", requests.size(), getName());
+        final Function<REQ, ENT> mapper = batchEntityMapper(requests);
+        final List<BatchItemResponse<RES>> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        final List<Integer> indexes = new ArrayList<>(requests.size());
+        final List<ENT> entities = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                entities.add(mapper.apply(requests.get(index)));
+                indexes.add(index);
+            } catch (DataNotFoundException ex) {
+                results.set(index, BatchItemResponse.<RES>builder()
+                    .withIndex(index)
+                    .withStatus(BatchItemStatus.FAILED)
+                    .withError(ErrorMessage.builder()
+                        .withMessage(ex.getMessage())
+                        .withField(ex.getField())
+                        .withSeverity(Severity.DATA)
+                        .withType(ex.getClass().getSimpleName())
+                        .build())
+                    .build());
+            }
+        }
+        final List<ENT> saved = new ArrayList<>(entities.size());
+        getRepository().saveAll(entities).forEach(saved::add);
+        for (int i = 0; i < saved.size(); i++) {
+            evict(saved.get(i));
+            results.set(indexes.get(i), BatchItemResponse.<RES>builder()
+                .withIndex(indexes.get(i))
+                .withStatus(BatchItemStatus.CREATED)
+                .withData(mapResponseFromEntity(saved.get(i)))
+                .build());
+        }
+        return results;
+    }
+
+    // Lets a service resolve what all requests of a batch refer to up front instead of once per request
+    default Function<REQ, ENT> batchEntityMapper(final List<REQ> requests) {
+        return this::mapEntityFromRequest;
     }
 
+    @Transactional
     default void delete(final String bId) {
         getLogger().info("Deleting {} with bId {}", getName(), bId);
-        getRepository().delete(processGetByBid(bId));
+        final ENT entity = processGetByBid(bId);
+        softDelete(entity, Timestamp.valueOf(LocalDateTime.now()));
+        evict(entity);
+    }
+
+    // Marks the row deleted with a set-based update. Services cascade it to the rows the entity owns the same way
+    default void softDelete(final ENT entity, final Timestamp deletedOn) {
+        getRepository().softDeleteById(entity.getId(), deletedOn);
     }
 
+    @Transactional(readOnly = true)
     default RES findByBid(final String bId) {
         getLogger().info("Finding {} with bId {}", getName(), bId);
         return mapResponseFromEntity(processGetByBid(bId));
     }
 
+    // Returns null when notModified accepts the entity's ETag
+    @Transactional(readOnly = true)
+    default RES findByBid(final String bId, final Predicate<String> notModified) {
+        getLogger().info("Finding {} with bId {} if modified", getName(), bId);
+        final ENT entity = processGetByBid(bId);
+        return notModified.test(ETags.of(entity)) ? null : mapResponseFromEntity(entity);
+    }
+
+    // All business ids missing from the cache are loaded with one IN query. Results follow the request order, repeated ids included
+    @Transactional(readOnly = true)
+    default List<LookupItemResponse<RES>> findByBids(final List<String> bIds) {
+        getLogger().info("Finding {} {} by bId", bIds.size(), getName());
+        final Map<String, ENT> entities = getByBusinessIds(bIds);
+        return bIds.stream()
+            .map(bId -> entities.containsKey(bId)
+                ? LookupItemResponse.<RES>builder().withId(bId).withStatus(LookupItemStatus.FOUND).withData(mapResponseFromEntity(entities.get(bId))).build()
+                : LookupItemResponse.<RES>builder().withId(bId).withStatus(LookupItemStatus.NOT_FOUND).build())
+            .collect(Collectors.toList());
+    }
+
+    default Optional<ENT> getByBusinessId(final String bId) {
+        return getBusinessIdCache().get(bId, this::loadByBusinessId);
+    }
+
+    default Map<String, ENT> getByBusinessIds(final Collection<String> bIds) {
+        return getBusinessIdCache().getAll(bIds, this::loadByBusinessIds);
+    }
+
+    default Map<String, ENT> loadByBusinessIds(final Set<String> bIds) {
+        return getRepository().findByBusinessIdIn(bIds).stream().collect(Collectors.toMap(BaseEntity::getBusinessId, Function.identity()));
+    }
+
+    // Drops the cached copy of a created, updated or deleted entity (and of anything the change cascades to)
+    default void evict(final ENT entity) {
+        getBusinessIdCache().evict(entity.getBusinessId());
+    }
+
+    private Slice<ENT> findSlice(final int size, final int pageNo, final CountMode countMode) {
+        final Pageable pageable = Pageable.ofSize(size).withPage(pageNo);
+        return CountMode.NONE == countMode ? getRepository().findAllBy(pageable) : getRepository().findAll(pageable);
+    }
+
     private ENT processGetByBid(final String bId) {
         return getByBusinessId(bId).orElseThrow(() -> new DataNotFoundException("bid", String.format("%s not found with bid '%s'", getName(), bId)));
     }
 
     Logger getLogger();
 
-    PagingAndSortingRepository<ENT, Long> getRepository();
+    BaseRepository<ENT> getRepository();
 
     RES mapResponseFromEntity(final ENT entity);
 
@@ -59,5 +224,7 @@ public interface DataService<RES extends Serializable, REQ extends Serializable,
 
     String getName();
 
-    Optional<ENT> getByBusinessId(final String bId);
+    BusinessIdCache getBusinessIdCache();
+
+    Optional<ENT> loadByBusinessId(final String bId);
 }
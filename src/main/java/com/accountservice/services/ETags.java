@@ -0,0 +1,52 @@
+package com.accountservice.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.accountservice.entities.BaseEntity;
+
+// A page's tag digests its position, counts and row tags, so it changes when rows move between pages
+final class ETags {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int PAGE_TAG_BYTES = 16;
+
+    private ETags() {
+
+    }
+
+    static String of(final BaseEntity entity) {
+        return quote(entity.getBusinessId() + "-" + version(entity));
+    }
+
+    static String of(final Slice<? extends BaseEntity> slice) {
+        final StringBuilder state = new StringBuilder()
+            .append(slice.getNumber()).append(':')
+            .append(slice.getSize()).append(':')
+            .append(slice.hasNext()).append(':')
+            .append(slice instanceof Page ? ((Page<?>) slice).getTotalElements() : -1);
+        slice.forEach(entity -> state.append(':').append(entity.getBusinessId()).append('-').append(version(entity)));
+        try {
+            final byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(state.toString().getBytes(StandardCharsets.UTF_8));
+            return quote(Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, PAGE_TAG_BYTES)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    // Milliseconds, a timestamp read back from the database may carry less precision than the one written
+    private static long version(final BaseEntity entity) {
+        final Timestamp changedOn = entity.getModifiedOn() != null ? entity.getModifiedOn() : entity.getCreatedOn();
+        return changedOn == null ? 0L : changedOn.getTime();
+    }
+
+    private static String quote(final String tag) {
+        return "\"" + tag + "\"";
+    }
+}
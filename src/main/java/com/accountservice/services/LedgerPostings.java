@@ -0,0 +1,55 @@
+package com.accountservice.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.daos.LedgerEntry;
+import com.accountservice.daos.LedgerPosition;
+import com.accountservice.exceptions.DataNotFoundException;
+
+// Accounts are locked in id order so concurrent writers touching the same accounts can't deadlock
+final class LedgerPostings {
+    private LedgerPostings() {
+    }
+
+    // Returns the entries with their sequences, in the order given
+    static List<LedgerEntry> apply(final LedgerDao ledgerDao, final List<LedgerEntry> entries, final int snapshotInterval) {
+        final Map<Long, LedgerPosition> positions = ledgerDao.lockPositions(entries.stream()
+            .map(LedgerEntry::getAccountId)
+            .collect(Collectors.toCollection(TreeSet::new)));
+        final Map<Long, Long> startSequences = positions.values().stream().collect(Collectors.toMap(LedgerPosition::getAccountId, LedgerPosition::getSequence));
+        final List<LedgerEntry> posted = new ArrayList<>(entries.size());
+        for (final LedgerEntry entry : entries) {
+            final Long accountId = entry.getAccountId();
+            final LedgerPosition last = positions.get(accountId);
+            if (last == null) {
+                throw new DataNotFoundException("bid", String.format("Account not found with id %d", accountId));
+            }
+            final LedgerEntry sequenced = entry.toBuilder().withSequence(last.getSequence() + 1).build();
+            positions.put(accountId, LedgerPosition.builder()
+                .withAccountId(accountId)
+                .withSequence(sequenced.getSequence())
+                .withBalance(last.getBalance().add(sequenced.getSignedAmount()))
+                .build());
+            posted.add(sequenced);
+        }
+        // An account whose ledger crossed a multiple of the snapshot interval gets a snapshot of where the entries leave it
+        final List<LedgerPosition> snapshots = positions.values().stream()
+            .filter(position -> position.getSequence() / snapshotInterval > startSequences.get(position.getAccountId()) / snapshotInterval)
+            .collect(Collectors.toList());
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        ledgerDao.insert(posted);
+        ledgerDao.updatePositions(positions.values(), now);
+        if (!snapshots.isEmpty()) {
+            ledgerDao.insertSnapshots(snapshots, now);
+        }
+        return posted;
+    }
+}
@@ -0,0 +1,154 @@
+package com.accountservice.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.daos.LedgerEntry;
+import com.accountservice.exceptions.ServiceBusyException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Group commit for ledger postings: one writer thread commits everything queued so far in a single transaction
+@Component
+public class LedgerWriter {
+    static final String METRIC_NAME = "account-service.ledger";
+    private static final Logger logger = LoggerFactory.getLogger(LedgerWriter.class);
+    private static final long POLL_MILLIS = 100;
+
+    private final LedgerDao ledgerDao;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Posting> queue;
+    private final int maxBatchSize;
+    private final int snapshotInterval;
+    private final Timer commits;
+    private final DistributionSummary batchSizes;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public LedgerWriter(final LedgerDao ledgerDao,
+                        final PlatformTransactionManager transactionManager,
+                        final MeterRegistry meterRegistry,
+                        @Value("${account-service.ledger.queue-size:10000}") final int queueSize,
+                        @Value("${account-service.ledger.max-batch-size:500}") final int maxBatchSize,
+                        @Value("${account-service.ledger.snapshot-interval:100}") final int snapshotInterval) {
+        this.ledgerDao = ledgerDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.maxBatchSize = maxBatchSize;
+        this.snapshotInterval = snapshotInterval;
+        this.commits = Timer.builder(METRIC_NAME + ".commits")
+            .description("Ledger group commits")
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder(METRIC_NAME + ".batch-size")
+            .description("Postings per ledger group commit")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".queue", queue, Collection::size)
+            .description("Postings waiting for the ledger writer")
+            .register(meterRegistry);
+        this.writer = new Thread(this::run, "ledger-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Completes once committed. A replay after an unknown outcome fails on the idempotency key instead of posting twice
+    public CompletableFuture<LedgerEntry> post(final LedgerEntry entry) {
+        final Posting posting = new Posting(entry);
+        if (!running || !queue.offer(posting)) {
+            throw new ServiceBusyException("Ledger queue is full or stopped, retry later");
+        }
+        return posting.result;
+    }
+
+    // Not interrupted, an interrupt in the middle of a JDBC call can close a file database
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void run() {
+        final List<Posting> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final Posting first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                batchSizes.record(batch.size());
+                write(batch);
+            } catch (InterruptedException e) {
+                // Every poll would fail at once from now on, what is still queued is failed rather than left waiting
+                Thread.currentThread().interrupt();
+                running = false;
+                failQueued(new ServiceBusyException("Ledger writer was interrupted, posting not written"));
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Ledger writer failed to complete {} postings", batch.size(), e);
+                batch.forEach(posting -> posting.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void failQueued(final RuntimeException e) {
+        final List<Posting> queued = new ArrayList<>(queue.size());
+        queue.drainTo(queued);
+        logger.error("Ledger writer stopped, failing {} queued postings", queued.size());
+        queued.forEach(posting -> posting.result.completeExceptionally(e));
+    }
+
+    private void write(final List<Posting> batch) {
+        try {
+            commits.record(() -> transactionTemplate.executeWithoutResult(status -> commit(batch)));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            // One bad posting mustn't fail the others, they are retried one per transaction
+            logger.warn("Ledger batch of {} postings failed, retrying them one by one", batch.size(), e);
+            batch.forEach(posting -> write(List.of(posting)));
+            return;
+        }
+        batch.forEach(posting -> posting.result.complete(posting.posted));
+    }
+
+    private void commit(final List<Posting> batch) {
+        final List<LedgerEntry> posted = LedgerPostings.apply(ledgerDao, batch.stream().map(posting -> posting.entry).collect(Collectors.toList()), snapshotInterval);
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).posted = posted.get(i);
+        }
+    }
+
+    private static final class Posting {
+        private final LedgerEntry entry;
+        private final CompletableFuture<LedgerEntry> result = new CompletableFuture<>();
+        private LedgerEntry posted;
+
+        private Posting(final LedgerEntry entry) {
+            this.entry = entry;
+        }
+    }
+}
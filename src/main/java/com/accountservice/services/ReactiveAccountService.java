@@ -0,0 +1,19 @@
+package com.accountservice.services;
+
+import com.accountservice.models.AccountResponse;
+import com.accountservice.models.PageResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAccountService {
+    Mono<AccountResponse> findByBid(final String bId);
+
+    Mono<PageResponse<AccountResponse>> findAll(int size, int pageNo);
+
+    Flux<AccountResponse> streamAll();
+
+    Mono<PageResponse<AccountResponse>> getAccountsForACustomer(final String customerBid, int pageNo, int size);
+
+    Flux<AccountResponse> streamAccountsForACustomer(final String customerBid);
+}
@@ -0,0 +1,82 @@
+package com.accountservice.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.accountservice.daos.ReactiveAccountDao;
+import com.accountservice.daos.ReactiveCustomerDao;
+import com.accountservice.entities.Customer;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.AccountResponse;
+import com.accountservice.models.PageResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Same responses as AccountService, read without blocking. Mapping is shared with AccountService
+@Service
+@ConditionalOnProperty(name = "account-service.reactive.enabled", havingValue = "true")
+public class ReactiveAccountServiceImpl implements ReactiveAccountService {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAccountServiceImpl.class);
+    private final ReactiveAccountDao reactiveAccountDao;
+    private final ReactiveCustomerDao reactiveCustomerDao;
+    private final AccountService accountService;
+
+    public ReactiveAccountServiceImpl(final ReactiveAccountDao reactiveAccountDao,
+                                      final ReactiveCustomerDao reactiveCustomerDao,
+                                      final AccountService accountService) {
+        this.reactiveAccountDao = reactiveAccountDao;
+        this.reactiveCustomerDao = reactiveCustomerDao;
+        this.accountService = accountService;
+    }
+
+    @Override
+    public Mono<AccountResponse> findByBid(final String bId) {
+        logger.info("Finding Account with bId {}", bId);
+        return reactiveAccountDao.findByBusinessId(bId)
+            .switchIfEmpty(Mono.error(() -> new DataNotFoundException("bid", String.format("Account not found with bid '%s'", bId))))
+            .map(accountService::mapResponseFromEntity);
+    }
+
+    @Override
+    public Mono<PageResponse<AccountResponse>> findAll(final int size, final int pageNo) {
+        logger.info("Retrieving Account for page no {} with max size {}", pageNo, size);
+        final Pageable pageable = Pageable.ofSize(size).withPage(pageNo);
+        return Mono.zip(reactiveAccountDao.findAll(size, pageable.getOffset()).collectList(), reactiveAccountDao.count())
+            .map(page -> accountService.mapToPageResponse(new PageImpl<>(page.getT1(), pageable, page.getT2())));
+    }
+
+    @Override
+    public Flux<AccountResponse> streamAll() {
+        logger.info("Streaming all accounts");
+        return reactiveAccountDao.findAll().map(accountService::mapResponseFromEntity);
+    }
+
+    @Override
+    public Mono<PageResponse<AccountResponse>> getAccountsForACustomer(final String customerBid, final int pageNo, final int size) {
+        logger.info("Finding all accounts for customer with bid {}", customerBid);
+        final Pageable pageable = Pageable.ofSize(size).withPage(pageNo);
+        return getCustomer(customerBid)
+            .flatMap(customer -> Mono.zip(
+                reactiveAccountDao.findByCustomer(customer.getId(), size, pageable.getOffset()).collectList(),
+                reactiveAccountDao.countByCustomer(customer.getId())))
+            .map(page -> accountService.mapToPageResponse(new PageImpl<>(page.getT1(), pageable, page.getT2())));
+    }
+
+    @Override
+    public Flux<AccountResponse> streamAccountsForACustomer(final String customerBid) {
+        logger.info("Streaming all accounts for customer with bid {}", customerBid);
+        return getCustomer(customerBid)
+            .flatMapMany(customer -> reactiveAccountDao.findByCustomer(customer.getId()))
+            .map(accountService::mapResponseFromEntity);
+    }
+
+    private Mono<Customer> getCustomer(final String customerBid) {
+        return reactiveCustomerDao.findByBusinessId(customerBid)
+            .switchIfEmpty(Mono.error(() -> new DataNotFoundException(String.format("Customer not found for bid '%s'", customerBid))));
+    }
+}
@@ -0,0 +1,15 @@
+package com.accountservice.services;
+
+import com.accountservice.models.CustomerResponse;
+import com.accountservice.models.PageResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCustomerService {
+    Mono<CustomerResponse> findByBid(final String bId);
+
+    Mono<PageResponse<CustomerResponse>> findAll(int size, int pageNo);
+
+    Flux<CustomerResponse> streamAll();
+}
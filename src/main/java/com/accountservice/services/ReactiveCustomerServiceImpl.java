@@ -0,0 +1,53 @@
+package com.accountservice.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.accountservice.daos.ReactiveCustomerDao;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.CustomerResponse;
+import com.accountservice.models.PageResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Same responses as CustomerService, read without blocking. Mapping is shared with CustomerService
+@Service
+@ConditionalOnProperty(name = "account-service.reactive.enabled", havingValue = "true")
+public class ReactiveCustomerServiceImpl implements ReactiveCustomerService {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCustomerServiceImpl.class);
+    private final ReactiveCustomerDao reactiveCustomerDao;
+    private final CustomerService customerService;
+
+    public ReactiveCustomerServiceImpl(final ReactiveCustomerDao reactiveCustomerDao,
+                                       final CustomerService customerService) {
+        this.reactiveCustomerDao = reactiveCustomerDao;
+        this.customerService = customerService;
+    }
+
+    @Override
+    public Mono<CustomerResponse> findByBid(final String bId) {
+        logger.info("Finding Customer with bId {}", bId);
+        return reactiveCustomerDao.findByBusinessId(bId)
+            .switchIfEmpty(Mono.error(() -> new DataNotFoundException("bid", String.format("Customer not found with bid '%s'", bId))))
+            .map(customerService::mapResponseFromEntity);
+    }
+
+    @Override
+    public Mono<PageResponse<CustomerResponse>> findAll(final int size, final int pageNo) {
+        logger.info("Retrieving Customer for page no {} with max size {}", pageNo, size);
+        final Pageable pageable = Pageable.ofSize(size).withPage(pageNo);
+        return Mono.zip(reactiveCustomerDao.findAll(size, pageable.getOffset()).collectList(), reactiveCustomerDao.count())
+            .map(page -> customerService.mapToPageResponse(new PageImpl<>(page.getT1(), pageable, page.getT2())));
+    }
+
+    @Override
+    public Flux<CustomerResponse> streamAll() {
+        logger.info("Streaming all customers");
+        return reactiveCustomerDao.findAll().map(customerService::mapResponseFromEntity);
+    }
+}
@@ -0,0 +1,146 @@
+package com.accountservice.services;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Moves old soft deleted rows to the archive tables in short batches. No index on deleted_on, it would slow live writes
+@Component
+public class SoftDeleteArchiver {
+    static final String METRIC_NAME = "account-service.archive";
+    private static final Logger logger = LoggerFactory.getLogger(SoftDeleteArchiver.class);
+
+    // Accounts go first, a customer is only moved once none of its accounts is left in the live table
+    private static final List<ArchivedTable> TABLES = List.of(
+        new ArchivedTable("account", "id, business_id, created_on, deleted_on, modified_on, currency, description, name, number, sort_code, customer_id, "
+            + "ledger_sequence, balance", ""),
+        new ArchivedTable("customer", "id, business_id, created_on, deleted_on, modified_on, first_name, last_name",
+            " and not exists (select 1 from account a where a.customer_id = t.id)"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pause;
+    private final Map<String, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    public SoftDeleteArchiver(final NamedParameterJdbcTemplate jdbcTemplate,
+                              final PlatformTransactionManager transactionManager,
+                              final MeterRegistry meterRegistry,
+                              @Value("${account-service.archive.retention:30d}") final Duration retention,
+                              @Value("${account-service.archive.batch-size:500}") final int batchSize,
+                              @Value("${account-service.archive.pause:100ms}") final Duration pause) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Archive batch size must be positive but was %d", batchSize));
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        TABLES.forEach(table -> Gauge.builder(METRIC_NAME + ".pending", pending.computeIfAbsent(table.name, name -> new AtomicLong()), AtomicLong::get)
+            .description("Soft deleted rows past the retention not archived yet, as of the current or last run")
+            .tag("table", table.name)
+            .register(meterRegistry));
+    }
+
+    public long archive() {
+        return archive(Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+    }
+
+    // Returns the number of rows moved. A failed batch is rolled back and ends the run, the next run picks it up again
+    long archive(final Timestamp deletedBefore) {
+        final Timestamp archivedOn = Timestamp.valueOf(LocalDateTime.now());
+        long archived = 0;
+        try {
+            for (final ArchivedTable table : TABLES) {
+                archived += archive(table, deletedBefore, archivedOn);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Archiving rows deleted before {} stopped after {} rows", deletedBefore, archived, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Archiving rows deleted before {} interrupted after {} rows", deletedBefore, archived);
+        }
+        return archived;
+    }
+
+    private long archive(final ArchivedTable table, final Timestamp deletedBefore, final Timestamp archivedOn) throws InterruptedException {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("deletedBefore", deletedBefore)
+            .addValue("archivedOn", archivedOn)
+            .addValue("batchSize", batchSize);
+        final AtomicLong tablePending = pending.get(table.name);
+        tablePending.set(jdbcTemplate.queryForObject(table.count, parameters, Long.class));
+        final Counter rows = meterRegistry.counter(METRIC_NAME + ".rows", "table", table.name);
+        final Timer batches = meterRegistry.timer(METRIC_NAME + ".batches", "table", table.name);
+        long archived = 0;
+        long after = 0;
+        while (tablePending.get() > 0) {
+            parameters.addValue("after", after);
+            final List<Long> moved = batches.record(() -> transactionTemplate.execute(status -> moveBatch(table, parameters)));
+            if (moved == null || moved.isEmpty()) {
+                break;
+            }
+            archived += moved.size();
+            rows.increment(moved.size());
+            tablePending.set(Math.max(0, tablePending.get() - moved.size()));
+            if (moved.size() < batchSize) {
+                break;
+            }
+            after = moved.get(moved.size() - 1);
+            Thread.sleep(pause.toMillis());
+        }
+        if (archived > 0) {
+            logger.info("Archived {} {} rows deleted before {}", archived, table.name, deletedBefore);
+        }
+        return archived;
+    }
+
+    private List<Long> moveBatch(final ArchivedTable table, final MapSqlParameterSource parameters) {
+        final List<Long> ids = jdbcTemplate.queryForList(table.select, parameters, Long.class);
+        if (!ids.isEmpty()) {
+            final MapSqlParameterSource batch = new MapSqlParameterSource(parameters.getValues()).addValue("ids", ids);
+            jdbcTemplate.update(table.insert, batch);
+            jdbcTemplate.update(table.delete, batch);
+        }
+        return ids;
+    }
+
+    private static final class ArchivedTable {
+        private final String name;
+        private final String count;
+        private final String select;
+        private final String insert;
+        private final String delete;
+
+        private ArchivedTable(final String name, final String columns, final String condition) {
+            final String archivable = String.format(" from %s t where t.deleted_on < :deletedBefore%s", name, condition);
+            this.name = name;
+            this.count = "select count(*)" + archivable;
+            this.select = "select t.id" + archivable + " and t.id > :after order by t.id limit :batchSize";
+            this.insert = String.format("insert into %1$s_archive (%2$s, archived_on) select %2$s, :archivedOn from %1$s where id in (:ids)", name, columns);
+            this.delete = String.format("delete from %s where id in (:ids)", name);
+        }
+    }
+}
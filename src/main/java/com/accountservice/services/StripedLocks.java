@@ -0,0 +1,50 @@
+package com.accountservice.services;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Stripes are taken in ascending order, so two callers can't each hold one the other waits for
+final class StripedLocks {
+    private final ReentrantLock[] stripes;
+
+    StripedLocks(final int stripes) {
+        // A power of two, so the stripe is a mask of the spread hash
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, stripes - 1)) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    int stripeOf(final long id) {
+        final int hash = Long.hashCode(id);
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    // Returns the unlock of all stripes taken, or null when one of them wasn't free within the timeout (nothing is
+    // held then). Ids sharing a stripe take it once
+    Runnable lock(final Collection<Long> ids, final Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final TreeSet<Integer> ordered = new TreeSet<>();
+        ids.forEach(id -> ordered.add(stripeOf(id)));
+        final Deque<ReentrantLock> held = new ArrayDeque<>(ordered.size());
+        final Runnable unlock = () -> held.forEach(ReentrantLock::unlock);
+        try {
+            for (final Integer stripe : ordered) {
+                if (!stripes[stripe].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    unlock.run();
+                    return null;
+                }
+                held.push(stripes[stripe]);
+            }
+        } catch (InterruptedException e) {
+            unlock.run();
+            throw e;
+        }
+        return unlock;
+    }
+}
@@ -0,0 +1,16 @@
+package com.accountservice.services;
+
+import com.accountservice.models.CursorPageResponse;
+import com.accountservice.models.TransactionRequest;
+import com.accountservice.models.TransactionResponse;
+
+public interface TransactionService {
+    default TransactionResponse post(final String accountBid, final TransactionRequest request) {
+        return post(accountBid, request, null);
+    }
+
+    // A posting repeated with the same idempotency key answers with the entry of the first one
+    TransactionResponse post(final String accountBid, final TransactionRequest request, final String idempotencyKey);
+
+    CursorPageResponse<TransactionResponse> findAll(final String accountBid, final String cursor, final int size);
+}
@@ -0,0 +1,141 @@
+package com.accountservice.services;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.daos.LedgerEntry;
+import com.accountservice.entities.Account;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.exceptions.InvalidDataException;
+import com.accountservice.exceptions.ServiceBusyException;
+import com.accountservice.models.CursorPageResponse;
+import com.accountservice.models.TransactionRequest;
+import com.accountservice.models.TransactionResponse;
+
+@Service
+public class TransactionServiceImpl implements TransactionService {
+    private static final String IDEMPOTENCY_KEY_FIELD = "Idempotency-Key";
+    private static final Logger logger = LoggerFactory.getLogger(TransactionServiceImpl.class);
+    private final AccountService accountService;
+    private final LedgerWriter ledgerWriter;
+    private final LedgerDao ledgerDao;
+    private final Duration commitTimeout;
+
+    public TransactionServiceImpl(final AccountService accountService,
+                                  final LedgerWriter ledgerWriter,
+                                  final LedgerDao ledgerDao,
+                                  @Value("${account-service.ledger.commit-timeout:5s}") final Duration commitTimeout) {
+        this.accountService = accountService;
+        this.ledgerWriter = ledgerWriter;
+        this.ledgerDao = ledgerDao;
+        this.commitTimeout = commitTimeout;
+    }
+
+    static TransactionResponse mapResponse(final String accountBid, final LedgerEntry entry) {
+        return TransactionResponse
+            .builder()
+            .withAccountId(accountBid)
+            .withSequence(entry.getSequence())
+            .withType(entry.getType())
+            .withAmount(entry.getAmount())
+            .withDescription(entry.getDescription())
+            .withPostedOn(entry.getPostedOn().toLocalDateTime())
+            .build();
+    }
+
+    private static DataNotFoundException accountNotFound(final String accountBid) {
+        return new DataNotFoundException("bid", String.format("Account not found with bid '%s'", accountBid));
+    }
+
+    private Account getAccount(final String accountBid) {
+        return accountService.getByBusinessId(accountBid).orElseThrow(() -> accountNotFound(accountBid));
+    }
+
+    // The entry already posted with the key, if any. Reusing a key for a different posting is rejected
+    private Optional<TransactionResponse> findPosted(final String accountBid, final Account account, final TransactionRequest request, final String idempotencyKey) {
+        return ledgerDao.findByIdempotencyKey(account.getId(), idempotencyKey).map(entry -> {
+            if (entry.getType() != request.getType() || entry.getAmount().compareTo(request.getAmount()) != 0) {
+                throw new InvalidDataException(IDEMPOTENCY_KEY_FIELD, String.format("Idempotency key '%s' was already used for a %s of %s to account '%s'",
+                    idempotencyKey, entry.getType(), entry.getAmount(), accountBid));
+            }
+            return mapResponse(accountBid, entry);
+        });
+    }
+
+    // Waits for the group commit. The account can still be deleted between the lookup and the commit, the writer
+    // then rejects the posting. A request without an idempotency key gets a new one, it can't be told apart from a retry
+    @Override
+    public TransactionResponse post(final String accountBid, final TransactionRequest request, final String idempotencyKey) {
+        logger.info("Posting {} of {} to Account with bId {}", request.getType(), request.getAmount(), accountBid);
+        final Account account = getAccount(accountBid);
+        if (idempotencyKey != null) {
+            final Optional<TransactionResponse> posted = findPosted(accountBid, account, request, idempotencyKey);
+            if (posted.isPresent()) {
+                logger.info("Transaction with idempotency key {} already posted to Account with bId {}", idempotencyKey, accountBid);
+                return posted.get();
+            }
+        }
+        final LedgerEntry entry = LedgerEntry
+            .builder()
+            .withAccountId(account.getId())
+            .withType(request.getType())
+            .withAmount(request.getAmount())
+            .withDescription(request.getDescription())
+            // At the precision the column stores, a replay with the idempotency key answers with the same postedOn
+            .withPostedOn(Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)))
+            .withIdempotencyKey(idempotencyKey == null ? UUID.randomUUID().toString() : idempotencyKey)
+            .build();
+        try {
+            // The cached copy holds the balance before this posting. Evicted even when the wait times out
+            final CompletableFuture<LedgerEntry> posted = ledgerWriter.post(entry).whenComplete((result, e) -> accountService.evict(account));
+            return mapResponse(accountBid, posted.get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataNotFoundException) {
+                throw accountNotFound(accountBid);
+            }
+            // A concurrent request with the same key was committed first
+            if (e.getCause() instanceof DuplicateKeyException && idempotencyKey != null) {
+                return findPosted(accountBid, account, request, idempotencyKey).orElseThrow(() -> new IllegalStateException(e.getCause()));
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceBusyException(String.format("Transaction to account '%s' not confirmed within %s, it may still be posted. "
+                + "Retry with the same Idempotency-Key to get it posted once", accountBid, commitTimeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(String.format("Interrupted while posting transaction to account '%s'", accountBid));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> findAll(final String accountBid, final String cursor, final int size) {
+        logger.info("Retrieving transactions of Account with bId {} after cursor {} with max size {}", accountBid, cursor, size);
+        final List<LedgerEntry> entries = ledgerDao.findAfter(getAccount(accountBid).getId(), Cursors.decode(cursor), size + 1);
+        final List<LedgerEntry> content = entries.size() > size ? entries.subList(0, size) : entries;
+        return CursorPageResponse
+            .<TransactionResponse>builder()
+            .withContent(content.stream().map(entry -> mapResponse(accountBid, entry)).collect(Collectors.toList()))
+            .withSize(content.size())
+            .withNextCursor(entries.size() > size ? Cursors.encode(content.get(content.size() - 1).getSequence()) : null)
+            .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.accountservice.services;
+
+import com.accountservice.models.TransferRequest;
+import com.accountservice.models.TransferResponse;
+
+public interface TransferService {
+    TransferResponse transfer(final TransferRequest request);
+}
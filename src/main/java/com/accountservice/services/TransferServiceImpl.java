@@ -0,0 +1,170 @@
+package com.accountservice.services;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.daos.LedgerEntry;
+import com.accountservice.entities.Account;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.exceptions.InvalidDataException;
+import com.accountservice.exceptions.ServiceBusyException;
+import com.accountservice.models.LedgerEntryType;
+import com.accountservice.models.TransferRequest;
+import com.accountservice.models.TransferResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Rows are locked in account id order, as the ledger writer does, so opposite transfers can't deadlock
+@Service
+public class TransferServiceImpl implements TransferService {
+    static final String METRIC_NAME = "account-service.transfer";
+    private static final Logger logger = LoggerFactory.getLogger(TransferServiceImpl.class);
+
+    private final AccountService accountService;
+    private final LedgerDao ledgerDao;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedLocks locks;
+    private final Duration lockTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int snapshotInterval;
+    private final Timer transfers;
+    private final Counter retries;
+
+    public TransferServiceImpl(final AccountService accountService,
+                               final LedgerDao ledgerDao,
+                               final PlatformTransactionManager transactionManager,
+                               final MeterRegistry meterRegistry,
+                               @Value("${account-service.transfer.lock-stripes:1024}") final int lockStripes,
+                               @Value("${account-service.transfer.lock-timeout:5s}") final Duration lockTimeout,
+                               @Value("${account-service.transfer.max-attempts:5}") final int maxAttempts,
+                               @Value("${account-service.transfer.initial-backoff:10ms}") final Duration initialBackoff,
+                               @Value("${account-service.transfer.max-backoff:200ms}") final Duration maxBackoff,
+                               @Value("${account-service.ledger.snapshot-interval:100}") final int snapshotInterval) {
+        this.accountService = accountService;
+        this.ledgerDao = ledgerDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.locks = new StripedLocks(lockStripes);
+        this.lockTimeout = lockTimeout;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.snapshotInterval = snapshotInterval;
+        this.transfers = Timer.builder(METRIC_NAME + ".commits")
+            .description("Committed transfers, retries included")
+            .register(meterRegistry);
+        this.retries = Counter.builder(METRIC_NAME + ".retries")
+            .description("Transfer attempts retried after a lock timeout or serialization failure")
+            .register(meterRegistry);
+    }
+
+    private static LedgerEntry entry(final Account account, final LedgerEntryType type, final TransferRequest request, final Timestamp postedOn) {
+        return LedgerEntry
+            .builder()
+            .withAccountId(account.getId())
+            .withType(type)
+            .withAmount(request.getAmount())
+            .withDescription(request.getDescription())
+            .withPostedOn(postedOn)
+            .build();
+    }
+
+    private Account getAccount(final String accountBid) {
+        return accountService.getByBusinessId(accountBid)
+            .orElseThrow(() -> new DataNotFoundException("bid", String.format("Account not found with bid '%s'", accountBid)));
+    }
+
+    @Override
+    public TransferResponse transfer(final TransferRequest request) {
+        logger.info("Transferring {} from Account with bId {} to Account with bId {}", request.getAmount(), request.getFromAccountBid(), request.getToAccountBid());
+        if (request.getFromAccountBid().equals(request.getToAccountBid())) {
+            throw new InvalidDataException("toAccountBid", "Transfer needs two different accounts");
+        }
+        final Account from = getAccount(request.getFromAccountBid());
+        final Account to = getAccount(request.getToAccountBid());
+        if (!from.getCurrency().equals(to.getCurrency())) {
+            throw new InvalidDataException("toAccountBid", String.format("Account '%s' is in %s, not in %s as account '%s'",
+                request.getToAccountBid(), to.getCurrency(), from.getCurrency(), request.getFromAccountBid()));
+        }
+        final Timestamp postedOn = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        final List<LedgerEntry> entries = List.of(entry(from, LedgerEntryType.DEBIT, request, postedOn), entry(to, LedgerEntryType.CREDIT, request, postedOn));
+        try {
+            final List<LedgerEntry> posted = transfers.record(() -> commitWithRetries(entries));
+            return TransferResponse
+                .builder()
+                .withDebit(TransactionServiceImpl.mapResponse(request.getFromAccountBid(), posted.get(0)))
+                .withCredit(TransactionServiceImpl.mapResponse(request.getToAccountBid(), posted.get(1)))
+                .build();
+        } catch (DataNotFoundException e) {
+            // Deleted since the lookup
+            throw new DataNotFoundException("bid", String.format("Account '%s' or '%s' no longer found", request.getFromAccountBid(), request.getToAccountBid()));
+        } finally {
+            // The cached copies hold the balances before the transfer
+            accountService.evict(from);
+            accountService.evict(to);
+        }
+    }
+
+    private List<LedgerEntry> commitWithRetries(final List<LedgerEntry> entries) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return commit(entries);
+            } catch (TransientDataAccessException e) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("Transfer failed after {} attempts", attempt, e);
+                    throw new ServiceBusyException(String.format("Transfer not committed after %d attempts, retry later", attempt));
+                }
+                logger.debug("Transfer attempt {} failed, retrying", attempt, e);
+                retries.increment();
+                backOff(attempt);
+            }
+        }
+    }
+
+    // The stripes are released before any backoff, a transfer waiting to retry doesn't hold up the others
+    private List<LedgerEntry> commit(final List<LedgerEntry> entries) {
+        final Runnable unlock;
+        try {
+            unlock = locks.lock(entries.stream().map(LedgerEntry::getAccountId).collect(Collectors.toList()), lockTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for the accounts of a transfer");
+        }
+        if (unlock == null) {
+            throw new ServiceBusyException(String.format("Accounts of the transfer still busy after %s, retry later", lockTimeout));
+        }
+        try {
+            return transactionTemplate.execute(status -> LedgerPostings.apply(ledgerDao, entries, snapshotInterval));
+        } finally {
+            unlock.run();
+        }
+    }
+
+    // Full jitter, so transfers that failed together don't retry together
+    private void backOff(final int attempt) {
+        final long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting to retry a transfer");
+        }
+    }
+}
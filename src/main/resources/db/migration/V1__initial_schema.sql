@@ -0,0 +1,36 @@
+create sequence entity_id_sequence start with 1 increment by 50;
+
+-- Business id lookups are served by the unique indexes, they match at most one row so the deleted_on filter is free
+create table customer (
+    id bigint not null,
+    business_id varchar(255) not null,
+    created_on timestamp not null,
+    deleted_on timestamp,
+    modified_on timestamp,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    constraint customer_pk primary key (id),
+    constraint customer_business_id_uk unique (business_id)
+);
+
+create table account (
+    id bigint not null,
+    business_id varchar(255) not null,
+    created_on timestamp not null,
+    deleted_on timestamp,
+    modified_on timestamp,
+    currency varchar(255) not null,
+    description varchar(255) not null,
+    name varchar(255) not null,
+    number integer not null,
+    sort_code varchar(255) not null,
+    customer_id bigint not null,
+    constraint account_pk primary key (id),
+    constraint account_business_id_uk unique (business_id)
+);
+
+-- Accounts of a customer: equality on customer_id, the deleted_on is null filter and rows in id order. Created before
+-- the foreign key so the key uses it instead of an index of its own
+create index account_customer_id_deleted_on_id_idx on account (customer_id, deleted_on, id);
+
+alter table account add constraint account_customer_fk foreign key (customer_id) references customer (id);
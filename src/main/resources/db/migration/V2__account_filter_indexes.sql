@@ -0,0 +1,7 @@
+-- Filters and sort keys of the accounts page. Each index ends with id, the tie breaker of every sort, so a filter on its
+-- leading column reads rows already in page order
+create index account_created_on_id_idx on account (created_on, id);
+
+create index account_sort_code_id_idx on account (sort_code, id);
+
+create index account_currency_id_idx on account (currency, id);
@@ -0,0 +1,8 @@
+-- Stamped on the primary by the replica lag monitor. A replica lags by the age of its copy of the row
+create table replica_heartbeat (
+    id integer not null,
+    beat_at timestamp not null,
+    constraint replica_heartbeat_pk primary key (id)
+);
+
+insert into replica_heartbeat (id, beat_at) values (1, current_timestamp);
@@ -0,0 +1,33 @@
+-- Soft deleted rows are moved here once they are past the retention. Same columns as the live tables plus the time
+-- they were moved, no foreign key so accounts and their customer can be moved in separate batches
+create table customer_archive (
+    id bigint not null,
+    business_id varchar(255) not null,
+    created_on timestamp not null,
+    deleted_on timestamp not null,
+    modified_on timestamp,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    archived_on timestamp not null,
+    constraint customer_archive_pk primary key (id),
+    constraint customer_archive_business_id_uk unique (business_id)
+);
+
+create table account_archive (
+    id bigint not null,
+    business_id varchar(255) not null,
+    created_on timestamp not null,
+    deleted_on timestamp not null,
+    modified_on timestamp,
+    currency varchar(255) not null,
+    description varchar(255) not null,
+    name varchar(255) not null,
+    number integer not null,
+    sort_code varchar(255) not null,
+    customer_id bigint not null,
+    archived_on timestamp not null,
+    constraint account_archive_pk primary key (id),
+    constraint account_archive_business_id_uk unique (business_id)
+);
+
+create index account_archive_customer_id_idx on account_archive (customer_id);
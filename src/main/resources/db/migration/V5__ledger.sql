@@ -0,0 +1,13 @@
+-- Last ledger sequence handed out per account. Read and bumped under a row lock by the ledger writer
+alter table account add column ledger_sequence bigint default 0 not null;
+
+-- Append-only money movements, numbered per account without gaps. No foreign key, entries outlive archived accounts
+create table ledger_entry (
+    account_id bigint not null,
+    sequence bigint not null,
+    entry_type varchar(6) not null,
+    amount decimal(19, 4) not null,
+    description varchar(255),
+    posted_on timestamp not null,
+    constraint ledger_entry_pk primary key (account_id, sequence)
+);
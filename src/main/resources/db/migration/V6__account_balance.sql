@@ -0,0 +1,12 @@
+-- Balance as of ledger_sequence, moved by the ledger writer in the same update that hands out the sequence
+alter table account add column balance decimal(19, 4) default 0 not null;
+
+-- Balance of an account as of one of its ledger sequences, taken every snapshot-interval postings. A balance is
+-- rebuilt from the last snapshot and the entries after it
+create table balance_snapshot (
+    account_id bigint not null,
+    sequence bigint not null,
+    balance decimal(19, 4) not null,
+    taken_on timestamp not null,
+    constraint balance_snapshot_pk primary key (account_id, sequence)
+);
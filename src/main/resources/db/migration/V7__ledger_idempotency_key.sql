@@ -0,0 +1,5 @@
+-- Key of the request that posted the entry, a retried request finds its entry instead of posting it twice.
+-- Null for transfer entries, nulls don't collide in the unique index
+alter table ledger_entry add column idempotency_key varchar(64);
+
+create unique index ledger_entry_idempotency_key_idx on ledger_entry (account_id, idempotency_key);
@@ -0,0 +1,4 @@
+-- Ledger position of archived accounts, their ledger entries stay in ledger_entry and are continued from it
+alter table account_archive add column ledger_sequence bigint default 0 not null;
+
+alter table account_archive add column balance decimal(19, 4) default 0 not null;
@@ -0,0 +1,4 @@
+-- Business id counters shared by all instances, each takes blocks of 100 ids (see SequenceBusinessIdGenerator)
+create sequence customer_business_id_sequence start with 1 increment by 100;
+
+create sequence account_business_id_sequence start with 1 increment by 100;
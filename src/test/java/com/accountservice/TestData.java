@@ -0,0 +1,48 @@
+package com.accountservice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+// Customers and GBP accounts for the integration tests, differing only in what a test asserts on
+public final class TestData {
+    private TestData() {
+    }
+
+    public static Customer customer(final String firstName) {
+        final Customer customer = new Customer();
+        customer.setFirstName(firstName);
+        customer.setLastName("TestLastName");
+        return customer;
+    }
+
+    public static Account account(final Customer customer, final int number) {
+        final Account account = new Account();
+        account.setName("testaccount");
+        account.setDescription("Test account");
+        account.setSortCode("101010");
+        account.setNumber(number);
+        account.setCurrency("GBP");
+        account.setCustomer(customer);
+        return account;
+    }
+
+    public static Customer saveCustomer(final CustomerRepository customerRepository, final String firstName) {
+        return customerRepository.save(customer(firstName));
+    }
+
+    // Saves a customer and its accounts numbered firstNumber, firstNumber + 1... The customer is the accounts' customer
+    public static List<Account> customerWithAccounts(final CustomerRepository customerRepository, final AccountRepository accountRepository,
+                                                     final String firstName, final int firstNumber, final int accounts) {
+        final Customer customer = saveCustomer(customerRepository, firstName);
+        final List<Account> saved = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            saved.add(accountRepository.save(account(customer, firstNumber + i)));
+        }
+        return saved;
+    }
+}
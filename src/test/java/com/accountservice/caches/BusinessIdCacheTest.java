@@ -0,0 +1,102 @@
+package com.accountservice.caches;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BusinessIdCacheTest {
+    private final BusinessIdCache underTest = new BusinessIdCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    private static Customer customer(final String bId) {
+        final Customer customer = new Customer();
+        customer.setBusinessId(bId);
+        customer.setFirstName("fName");
+        return customer;
+    }
+
+    private static Account account(final String bId, final Customer customer) {
+        final Account account = new Account();
+        account.setBusinessId(bId);
+        account.setCustomer(customer);
+        return account;
+    }
+
+    @Test
+    void givenCachedEntity_whenGet_thenEqualCopyPerCall() {
+        final Customer customer = customer("CU1");
+        final Account account = account("AC1", customer);
+
+        final Account first = underTest.get("AC1", bId -> Optional.of(account)).orElseThrow();
+        first.setName("changed");
+        first.getCustomer().setFirstName("changed");
+        customer.setFirstName("changed by loader's caller");
+        final Account second = underTest.get("AC1", bId -> Optional.<Account>empty()).orElseThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isNull();
+        assertThat(second.getCustomer().getFirstName()).isEqualTo("fName");
+    }
+
+    @Test
+    void givenAccountsOfTwoCustomers_whenEvictOwnedBy_thenOnlyAccountsOfThatCustomerEvicted() {
+        final Customer customer = customer("CU1");
+        final Customer other = customer("CU2");
+        underTest.get("AC1", bId -> Optional.of(account(bId, customer)));
+        underTest.getAll(List.of("AC2", "AC3"), bIds -> Map.of("AC2", account("AC2", customer), "AC3", account("AC3", other)));
+
+        underTest.evictOwnedBy("CU1");
+
+        assertThat(underTest.get("AC1", bId -> Optional.<Account>empty())).isEmpty();
+        assertThat(underTest.get("AC2", bId -> Optional.<Account>empty())).isEmpty();
+        assertThat(underTest.get("AC3", bId -> Optional.<Account>empty())).isPresent();
+    }
+
+    @Test
+    void givenAccountEvictedAndLoadedAgain_whenEvictOwnedBy_thenEvicted() {
+        final Customer customer = customer("CU1");
+        underTest.get("AC1", bId -> Optional.of(account(bId, customer)));
+        underTest.evict("AC1");
+        underTest.get("AC1", bId -> Optional.of(account(bId, customer)));
+
+        underTest.evictOwnedBy("CU1");
+
+        assertThat(underTest.get("AC1", bId -> Optional.<Account>empty())).isEmpty();
+    }
+
+    @Test
+    void givenLoaderReadingTheCache_whenGet_thenLoadedOutsideTheCache() {
+        final Customer customer = customer("CU1");
+
+        final Optional<Account> loaded = underTest.get("AC1", bId -> {
+            // Inside a compute of the same key this would fail as a recursive update
+            assertThat(underTest.get(bId, key -> Optional.<Account>empty())).isEmpty();
+            return Optional.of(account(bId, customer));
+        });
+
+        assertThat(loaded).isPresent();
+        assertThat(underTest.get("AC1", bId -> Optional.<Account>empty())).isPresent();
+    }
+
+    @Test
+    void givenEvictionWhileLoading_whenGet_thenLoadedEntityNotCached() {
+        final Customer customer = customer("CU1");
+
+        final Optional<Account> loaded = underTest.get("AC1", bId -> {
+            underTest.evict(bId);
+            return Optional.of(account(bId, customer));
+        });
+
+        assertThat(loaded).isPresent();
+        assertThat(underTest.get("AC1", bId -> Optional.<Account>empty())).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.accountservice.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedDataSourceTest {
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private BoundedDataSource underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new BoundedDataSource(dataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void givenPermitsLeft_whenGetConnection_thenDelegatedAndPermitTaken() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isClosed()).thenReturn(false);
+
+        final Connection result = underTest.getConnection();
+
+        assertThat(result.isClosed()).isFalse();
+        assertThat(underTest.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void givenConnectionClosedTwice_whenClosed_thenPermitReturnedOnce() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        final Connection result = underTest.getConnection();
+        result.close();
+        result.close();
+
+        verify(connection, times(2)).close();
+        assertThat(underTest.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void givenNoPermitsLeft_whenGetConnection_thenTimesOut() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        underTest.getConnection();
+        underTest.getConnection();
+
+        assertThatExceptionOfType(SQLTransientConnectionException.class).isThrownBy(() -> underTest.getConnection());
+    }
+
+    @Test
+    void givenDelegateFails_whenGetConnection_thenPermitReturned() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+        assertThatExceptionOfType(SQLException.class).isThrownBy(() -> underTest.getConnection()).withMessage("Pool exhausted");
+        assertThat(underTest.availablePermits()).isEqualTo(2);
+    }
+}
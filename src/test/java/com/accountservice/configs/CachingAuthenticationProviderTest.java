@@ -0,0 +1,93 @@
+package com.accountservice.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthenticationProviderTest {
+    private static final Authentication AUTHENTICATED = new UsernamePasswordAuthenticationToken("user", null, Collections.emptyList());
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingAuthenticationProvider underTest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new CachingAuthenticationProvider(delegate, 10, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    void givenSameCredentialsTwice_whenAuthenticate_thenDelegateCalledOnce() {
+        when(delegate.authenticate(any())).thenReturn(AUTHENTICATED);
+
+        assertThat(underTest.authenticate(new UsernamePasswordAuthenticationToken("user", "password"))).isSameAs(AUTHENTICATED);
+        assertThat(underTest.authenticate(new UsernamePasswordAuthenticationToken("user", "password"))).isSameAs(AUTHENTICATED);
+
+        verify(delegate, times(1)).authenticate(any());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "authentications").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenDifferentPassword_whenAuthenticate_thenDelegateCalledAgain() {
+        when(delegate.authenticate(any())).thenReturn(AUTHENTICATED);
+
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("user", "password"));
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("user", "other"));
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("userp", "assword"));
+
+        verify(delegate, times(3)).authenticate(any());
+    }
+
+    @Test
+    void givenFailedAuthentication_whenAuthenticateAgain_thenNotCached() {
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(BadCredentialsException.class)
+                .isThrownBy(() -> underTest.authenticate(new UsernamePasswordAuthenticationToken("user", "wrong")));
+        }
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void givenUnauthenticatedResult_whenAuthenticateAgain_thenNotCached() {
+        final Authentication unauthenticated = new UsernamePasswordAuthenticationToken("user", "password");
+        when(delegate.authenticate(any())).thenReturn(unauthenticated);
+
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("user", "password"));
+        underTest.authenticate(new UsernamePasswordAuthenticationToken("user", "password"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void givenSupports_thenDelegated() {
+        when(delegate.supports(UsernamePasswordAuthenticationToken.class)).thenReturn(true);
+
+        assertThat(underTest.supports(UsernamePasswordAuthenticationToken.class)).isTrue();
+    }
+}
@@ -0,0 +1,68 @@
+package com.accountservice.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.accountservice.AccountServiceApp;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// The prod profile against a database file in a temporary directory
+@SpringBootTest(classes = AccountServiceApp.class)
+@ActiveProfiles("prod")
+@AutoConfigureMetrics
+class ProdProfileITTest {
+    @TempDir
+    static Path dataDir;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void dataDir(final DynamicPropertyRegistry registry) {
+        registry.add("account-service.data-dir", () -> dataDir.toString());
+    }
+
+    @Test
+    void givenProdProfile_whenStarted_thenFixedSizeHikariPoolOnDatabaseFile() {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        final HikariDataSource hikari = (HikariDataSource) dataSource;
+
+        assertThat(hikari.getJdbcUrl()).startsWith("jdbc:h2:file:" + dataDir);
+        assertThat(hikari.getPoolName()).isEqualTo("account-service");
+        assertThat(hikari.getMinimumIdle()).isEqualTo(hikari.getMaximumPoolSize());
+        assertThat(dataDir.resolve("account-service.mv.db")).exists();
+    }
+
+    @Test
+    void givenProdProfile_whenConnectionUsed_thenPoolWaitAndUsageTimed() {
+        jdbcTemplate.queryForObject("select count(*) from account", Long.class);
+
+        final Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag("pool", "account-service").timer();
+        final Timer usage = meterRegistry.get("hikaricp.connections.usage").tag("pool", "account-service").timer();
+        assertThat(acquire.count()).isPositive();
+        assertThat(usage.count()).isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "account-service").gauge().value()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,150 @@
+package com.accountservice.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CustomerRequest;
+import com.accountservice.models.CustomerResponse;
+import com.accountservice.services.CustomerService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Primary and replica are two unrelated in-memory databases, so a row written to only one of them shows where a read went.
+// Replication of the heartbeat is played by the tests
+@SpringBootTest(classes = AccountServiceApp.class, properties = {
+    "account-service.replica.enabled=true",
+    "account-service.replica.urls=" + ReplicaRoutingITTest.REPLICA_URL,
+    "account-service.replica.max-lag=1m",
+    "account-service.replica.lag-check-interval-ms=50"})
+class ReplicaRoutingITTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-routing-it;DB_CLOSE_DELAY=-1";
+    private static final String INSERT_CUSTOMER = "insert into customer (id, business_id, created_on, first_name, last_name) values (?, ?, ?, ?, ?)";
+    private static final String COUNT_CUSTOMER = "select count(*) from customer where business_id = ?";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    private static void replicateHeartbeat(final Instant beatAt) {
+        replica.update("update replica_heartbeat set beat_at = ? where id = 1", Timestamp.from(beatAt));
+    }
+
+    private static void insertOnReplica(final long id, final String businessId) {
+        replica.update(INSERT_CUSTOMER, id, businessId, Timestamp.from(Instant.now()), "ReplicaName", "ReplicaLastName");
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private ReplicaRoutingDataSource routingDataSource() {
+        assertThat(dataSource).isInstanceOf(ReplicaRoutingDataSource.class);
+        return (ReplicaRoutingDataSource) dataSource;
+    }
+
+    @Test
+    void givenReplicaCaughtUp_whenFindAll_thenReadFromReplica() throws InterruptedException {
+        insertOnReplica(900_001L, "CU900000000001");
+        replicateHeartbeat(Instant.now());
+        await(() -> routingDataSource().getUsableReplicas().equals(List.of("replica-0")));
+
+        assertThat(customerService.findAll(500, 0, CountMode.EXACT, tag -> false).getContent())
+            .extracting(CustomerResponse::getCustomerId).contains("CU900000000001");
+        assertThat(meterRegistry.get(ReplicaLagMonitor.METRIC_NAME).tag("replica", "replica-0").gauge().value()).isLessThan(60);
+    }
+
+    @Test
+    void givenReplicaBehind_whenFindAll_thenReadFromPrimary() throws InterruptedException {
+        insertOnReplica(900_002L, "CU900000000002");
+        replicateHeartbeat(Instant.now().minus(Duration.ofHours(1)));
+        await(() -> routingDataSource().getUsableReplicas().isEmpty());
+
+        assertThat(customerService.findAll(500, 0, CountMode.EXACT, tag -> false).getContent())
+            .extracting(CustomerResponse::getCustomerId).doesNotContain("CU900000000002");
+        assertThat(meterRegistry.get(ReplicaLagMonitor.METRIC_NAME).tag("replica", "replica-0").gauge().value()).isGreaterThanOrEqualTo(3600);
+    }
+
+    @Test
+    void givenReplicaCaughtUp_whenFindByBid_thenLoadedFromPrimaryAndCached() throws InterruptedException {
+        final JdbcTemplate primary = new JdbcTemplate(routingDataSource().getPrimary());
+        insertOnReplica(900_003L, "CU900000000003");
+        primary.update(INSERT_CUSTOMER, 900_003L, "CU900000000003", Timestamp.from(Instant.now()), "PrimaryName", "PrimaryLastName");
+        replicateHeartbeat(Instant.now());
+        await(() -> !routingDataSource().getUsableReplicas().isEmpty());
+
+        assertThat(customerService.findByBid("CU900000000003").getFirstName()).isEqualTo("PrimaryName");
+
+        // Removed behind the cache's back, only the cached copy can still be served
+        primary.update("delete from customer where business_id = ?", "CU900000000003");
+        assertThat(customerService.findByBid("CU900000000003").getFirstName()).isEqualTo("PrimaryName");
+    }
+
+    @Test
+    void givenReplicaCaughtUp_whenFindByBids_thenLoadedFromPrimaryAndCached() throws InterruptedException {
+        final JdbcTemplate primary = new JdbcTemplate(routingDataSource().getPrimary());
+        insertOnReplica(900_005L, "CU900000000005");
+        primary.update(INSERT_CUSTOMER, 900_005L, "CU900000000005", Timestamp.from(Instant.now()), "PrimaryName", "PrimaryLastName");
+        replicateHeartbeat(Instant.now());
+        await(() -> !routingDataSource().getUsableReplicas().isEmpty());
+
+        assertThat(customerService.findByBids(List.of("CU900000000005")).get(0).getData().getFirstName()).isEqualTo("PrimaryName");
+
+        primary.update("delete from customer where business_id = ?", "CU900000000005");
+        assertThat(customerService.findByBids(List.of("CU900000000005")).get(0).getData().getFirstName()).isEqualTo("PrimaryName");
+    }
+
+    @Test
+    void givenReplicaCaughtUp_whenFindAllWithShortOverload_thenReadFromReplica() throws InterruptedException {
+        insertOnReplica(900_004L, "CU900000000004");
+        replicateHeartbeat(Instant.now());
+        await(() -> !routingDataSource().getUsableReplicas().isEmpty());
+
+        assertThat(customerService.findAll(500, 0).getContent()).extracting(CustomerResponse::getCustomerId).contains("CU900000000004");
+    }
+
+    @Test
+    void givenReplicaCaughtUp_whenCreate_thenWrittenToPrimaryOnly() throws InterruptedException {
+        replicateHeartbeat(Instant.now());
+        await(() -> !routingDataSource().getUsableReplicas().isEmpty());
+
+        final CustomerResponse customer = customerService.create(CustomerRequest.builder().withFirstName("PrimaryName").withLastName("PrimaryLastName").build());
+
+        final JdbcTemplate primary = new JdbcTemplate(routingDataSource().getPrimary());
+        assertThat(primary.queryForObject(COUNT_CUSTOMER, Long.class, customer.getCustomerId())).isOne();
+        assertThat(replica.queryForObject(COUNT_CUSTOMER, Long.class, customer.getCustomerId())).isZero();
+        primary.update("delete from customer where business_id = ?", customer.getCustomerId());
+    }
+}
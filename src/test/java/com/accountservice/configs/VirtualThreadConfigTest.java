@@ -0,0 +1,34 @@
+package com.accountservice.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadConfigTest {
+    private final BeanPostProcessor underTest = VirtualThreadConfig.boundedDataSourcePostProcessor(2, Duration.ofSeconds(1));
+
+    @Mock
+    private DataSource dataSource;
+
+    @Test
+    void givenApplicationDataSource_whenPostProcessed_thenBounded() {
+        final Object result = underTest.postProcessAfterInitialization(dataSource, VirtualThreadConfig.DATA_SOURCE_BEAN_NAME);
+
+        assertThat(result).isInstanceOf(BoundedDataSource.class);
+        assertThat(underTest.postProcessAfterInitialization(result, VirtualThreadConfig.DATA_SOURCE_BEAN_NAME)).isSameAs(result);
+    }
+
+    @Test
+    void givenOtherDataSource_whenPostProcessed_thenLeftAsIs() {
+        assertThat(underTest.postProcessAfterInitialization(dataSource, "replicaPool")).isSameAs(dataSource);
+    }
+}
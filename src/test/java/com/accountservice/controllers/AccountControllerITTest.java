@@ -0,0 +1,300 @@
+package com.accountservice.controllers;
+
+import static com.accountservice.controllers.TestConstants.CORRECT_BASIC_AUTH_DETAILS;
+import static com.accountservice.controllers.TestConstants.ERROR_FIELD_XPATH;
+import static com.accountservice.controllers.TestConstants.ERROR_TYPE_XPATH;
+import static com.accountservice.controllers.TestConstants.SECURITY_HEADER;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.AccountRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(classes = AccountServiceApp.class, webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class AccountControllerITTest {
+    private static final String ACCOUNTS_URI = "/accounts";
+    private static final String ACCOUNTS_EXPORT_URI = "/accounts/export";
+    private static final String ACCOUNTS_LOOKUP_URI = ACCOUNTS_URI + "/lookup";
+    private static final String ACCOUNTS_BID_URI_FORMAT = ACCOUNTS_URI + "/%s";
+    private static final String CUSTOMER_ACCOUNTS_URI_FORMAT = "/accounts/for/customer/%s";
+    private static final String CUSTOMER_ACCOUNTS_EXPORT_URI_FORMAT = "/accounts/for/customer/%s/export";
+    private static final String PROMETHEUS_URI = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Account> accountsForDelete = new ArrayList<>();
+
+    private Customer customer;
+
+    private static List<Map<String, Object>> readNdjson(final String body) throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            rows.add(objectMapper.readValue(line, Map.class));
+        }
+        return rows;
+    }
+
+    @BeforeEach
+    void setUp() {
+        customer = TestData.saveCustomer(customerRepository, "TestName");
+    }
+
+    @AfterEach
+    void dataCleanUp() {
+        accountRepository.deleteAll(accountsForDelete);
+        accountsForDelete.clear();
+        customerRepository.delete(customer);
+    }
+
+    private AccountRequest accountRequest(final String currency) {
+        return AccountRequest
+            .builder()
+            .withName("testaccount")
+            .withDescription("Test account")
+            .withSortCode("101010")
+            .withNumber(1234567891)
+            .withCurrency(currency)
+            .withCustomerBid(customer.getBusinessId())
+            .build();
+    }
+
+    @Test
+    void givenProperRequest_whenCreateAccountApi_thenAccountCreated() throws Exception {
+        final String body = mockMvc.perform(post(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(accountRequest("EUR"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("currency").value("EUR"))
+            .andExpect(jsonPath("customerId").value(customer.getBusinessId()))
+            .andReturn().getResponse().getContentAsString();
+
+        accountsForDelete.add(accountRepository.getAccountByBusinessId((String) new ObjectMapper().readValue(body, Map.class).get("accountId")).orElseThrow());
+    }
+
+    @Test
+    void givenUnsupportedCurrency_whenCreateAccountApi_thenBadRequestStatus() throws Exception {
+        mockMvc.perform(post(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(accountRequest("USD"))))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenLowerCaseCurrency_whenCreateAccountApi_thenBadRequestStatus() throws Exception {
+        mockMvc.perform(post(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(accountRequest("gbp"))))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenAccountsOfACustomer_whenExportAccountsForCustomerApi_thenOneJsonLinePerAccount() throws Exception {
+        final List<String> accountIds = List.of(addAccount(1), addAccount(2), addAccount(3));
+
+        final String body = mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_EXPORT_URI_FORMAT, customer.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        final List<Map<String, Object>> rows = readNdjson(body);
+        assertThat(rows).extracting(row -> row.get("accountId")).containsExactlyElementsOf(accountIds);
+        assertThat(rows).extracting(row -> row.get("customerId")).containsOnly(customer.getBusinessId());
+    }
+
+    @Test
+    void givenAccountsPresent_whenExportAllAccountsApi_thenAccountsIncluded() throws Exception {
+        final List<String> accountIds = List.of(addAccount(1), addAccount(2));
+
+        final String body = mockMvc.perform(get(ACCOUNTS_EXPORT_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(readNdjson(body).stream().map(row -> row.get("accountId")).collect(Collectors.toList())).containsAll(accountIds);
+    }
+
+    @Test
+    void givenCustomerNotPresent_whenExportAccountsForCustomerApi_thenNotFoundStatus() throws Exception {
+        mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_EXPORT_URI_FORMAT, "CU123456789011")).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isNotFound())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("DataNotFoundException"));
+    }
+
+    @Test
+    void givenCustomerNotPresent_whenExportAccountsForCustomerApi_thenNotFoundOutcomeScraped() throws Exception {
+        mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_EXPORT_URI_FORMAT, "CU123456789011")).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isNotFound());
+
+        final String body = mockMvc.perform(get(PROMETHEUS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("account_service_data_seconds_bucket{entity=\"Account\",exception=\"DataNotFoundException\","
+            + "operation=\"exportAccountsForACustomer\",outcome=\"NOT_FOUND\",le=\"+Inf\",}");
+        assertThat(body).contains("spring_data_repository_invocations_seconds_bucket");
+    }
+
+    @Test
+    void givenInvalidCustomerBid_whenExportAccountsForCustomerApi_thenBadRequestStatus() throws Exception {
+        mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_EXPORT_URI_FORMAT, "AU123456789011")).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("ConstraintViolationException"))
+            .andExpect(jsonPath(ERROR_FIELD_XPATH).doesNotExist());
+    }
+
+    @Test
+    void givenAccountPresent_whenDeleteAccountByBidApi_thenAccountNoLongerRead() throws Exception {
+        final String deleted = addAccount(1);
+        final String kept = addAccount(2);
+
+        mockMvc.perform(delete(format(ACCOUNTS_BID_URI_FORMAT, deleted)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get(format(ACCOUNTS_BID_URI_FORMAT, deleted)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("DataNotFoundException"));
+        mockMvc.perform(get(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("customerBid", customer.getBusinessId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[*].accountId", contains(kept)));
+        mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_URI_FORMAT, customer.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[*].accountId", not(hasItem(deleted))))
+            .andExpect(jsonPath("totalSize").value(1));
+        // The soft deleted row would keep the customer from being deleted in the clean up
+        jdbcTemplate.update("delete from account where business_id = ?", deleted);
+    }
+
+    @Test
+    void givenETagOfAccount_whenGetAccountByBidWithIfNoneMatch_thenNotModifiedStatus() throws Exception {
+        final String accountId = addAccount(1);
+        final String etag = mockMvc.perform(get(format(ACCOUNTS_BID_URI_FORMAT, accountId)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("accountId").value(accountId))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(format(ACCOUNTS_BID_URI_FORMAT, accountId)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenETagOfCustomerAccountsPage_whenAccountAdded_thenPageModified() throws Exception {
+        addAccount(1);
+        final String etag = mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_URI_FORMAT, customer.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_URI_FORMAT, customer.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        addAccount(2);
+        mockMvc.perform(get(format(CUSTOMER_ACCOUNTS_URI_FORMAT, customer.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("size").value(2));
+    }
+
+    @Test
+    void givenAccountsOfACustomer_whenLookupAccounts_thenAccountsWithCustomerInRequestOrder() throws Exception {
+        final String first = addAccount(1);
+        final String second = addAccount(2);
+
+        mockMvc.perform(post(ACCOUNTS_LOOKUP_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(List.of(second, "AC123456789011", first))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status").value("FOUND"))
+            .andExpect(jsonPath("$[0].data.accountId").value(second))
+            .andExpect(jsonPath("$[0].data.customerId").value(customer.getBusinessId()))
+            .andExpect(jsonPath("$[1].id").value("AC123456789011"))
+            .andExpect(jsonPath("$[1].status").value("NOT_FOUND"))
+            .andExpect(jsonPath("$[2].data.number").value(1));
+    }
+
+    @Test
+    void givenAccountsOfACustomer_whenFindAllAccountsApiWithCustomerAndSort_thenFilteredInSortOrder() throws Exception {
+        final String first = addAccount(1);
+        final String second = addAccount(2);
+
+        mockMvc.perform(get(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .param("customerBid", customer.getBusinessId()).param("currency", "GBP").param("sort", "id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[*].accountId", contains(second, first)))
+            .andExpect(jsonPath("totalSize").value(2));
+
+        mockMvc.perform(get(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .param("customerBid", customer.getBusinessId()).param("currency", "EUR"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("content").isEmpty());
+    }
+
+    @Test
+    void givenCreatedRange_whenFindAllAccountsApi_thenOnlyAccountsCreatedInRange() throws Exception {
+        addAccount(1);
+        final String later = LocalDateTime.now().plusDays(1).toString();
+
+        mockMvc.perform(get(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .param("customerBid", customer.getBusinessId()).param("createdTo", later).param("countMode", "NONE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("size").value(1));
+
+        mockMvc.perform(get(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .param("customerBid", customer.getBusinessId()).param("createdFrom", later))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("size").value(0));
+    }
+
+    @Test
+    void givenNotIndexedSortKey_whenFindAllAccountsApi_thenBadRequestStatus() throws Exception {
+        mockMvc.perform(get(ACCOUNTS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("sort", "name"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private String addAccount(final int number) {
+        final Account account = accountRepository.save(TestData.account(customer, number));
+        accountsForDelete.add(account);
+        return account.getBusinessId();
+    }
+}
@@ -3,12 +3,15 @@ package com.accountservice.controllers;
 import static com.accountservice.controllers.TestConstants.CONTENT_DATA_XPATH_FORMAT;
 import static com.accountservice.controllers.TestConstants.CONTENT_XPATH;
 import static com.accountservice.controllers.TestConstants.CORRECT_BASIC_AUTH_DETAILS;
+import static com.accountservice.controllers.TestConstants.COUNT_MODE_XPATH;
 import static com.accountservice.controllers.TestConstants.EMPTY_BASIC_AUTH_DETAILS;
 import static com.accountservice.controllers.TestConstants.ERROR_FIELD_XPATH;
 import static com.accountservice.controllers.TestConstants.ERROR_MESSAGE_XPATH;
 import static com.accountservice.controllers.TestConstants.ERROR_SEVERITY_XPATH;
 import static com.accountservice.controllers.TestConstants.ERROR_TYPE_XPATH;
+import static com.accountservice.controllers.TestConstants.HAS_NEXT_XPATH;
 import static com.accountservice.controllers.TestConstants.INCORRECT_BASIC_AUTH_DETAILS;
+import static com.accountservice.controllers.TestConstants.NEXT_CURSOR_XPATH;
 import static com.accountservice.controllers.TestConstants.PAGE_XPATH;
 import static com.accountservice.controllers.TestConstants.SECURITY_HEADER;
 import static com.accountservice.controllers.TestConstants.SIZE_XPATH;
@@ -16,10 +19,12 @@ import static com.accountservice.controllers.TestConstants.TOTAL_PAGES_XPATH;
 import static com.accountservice.controllers.TestConstants.TOTAL_SIZE_XPATH;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -44,11 +50,17 @@ import com.accountservice.models.CustomerRequest;
 import com.accountservice.models.ErrorMessage;
 import com.accountservice.models.Severity;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 
 @SpringBootTest(classes = AccountServiceApp.class, webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 @AutoConfigureMockMvc
 class CustomerControllerITTest {
     private static final String CUSTOMERS_URI = "/customers";
+    private static final String CUSTOMERS_BATCH_URI = CUSTOMERS_URI + "/batch";
+    private static final String CUSTOMERS_SEEK_URI = CUSTOMERS_URI + "/seek";
+    private static final String CUSTOMERS_LOOKUP_URI = CUSTOMERS_URI + "/lookup";
+    private static final String CUSTOMERS_SUMMARY_URI = CUSTOMERS_URI + "/summary";
+    private static final String CUSTOMERS_SUMMARY_URI_FORMAT = CUSTOMERS_URI + "/%s/summary";
     private static final String CUSTOMERS_BID_URI_FORMAT = CUSTOMERS_URI + "/%s";
     private static final String CUSTOMER_NOT_FOUND_FORMAT = "Issue while processing request : Customer not found with bid '%s'";
     private static final String INVALID_BID_MESSAGE_FOR_GET = "Issue while processing request : getCustomerByBid.bId: must match \"(CU)[0-9]{12}\"";
@@ -179,6 +191,48 @@ class CustomerControllerITTest {
             .andExpect(jsonPath(TOTAL_PAGES_XPATH).value(2));
     }
 
+    @Test
+    void givenProperSecurityHeaderAndCountModeNone_whenGetAllCustomersApi_thenOkStatusReturnedWithoutTotals() throws Exception {
+        addCustomer("TestName1", "TestLastName1", false);
+        addCustomer("TestName2", "TestLastName2", false);
+        mockMvc.perform(get(CUSTOMERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("size", "1").param("countMode", "NONE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(format(CONTENT_DATA_XPATH_FORMAT, "firstName")).value("TestName1"))
+            .andExpect(jsonPath(SIZE_XPATH).value(1))
+            .andExpect(jsonPath(PAGE_XPATH).value(0))
+            .andExpect(jsonPath(HAS_NEXT_XPATH).value(true))
+            .andExpect(jsonPath(COUNT_MODE_XPATH).value("NONE"))
+            .andExpect(jsonPath(TOTAL_SIZE_XPATH).doesNotExist())
+            .andExpect(jsonPath(TOTAL_PAGES_XPATH).doesNotExist());
+    }
+
+    @Test
+    void givenProperSecurityHeaderAndCustomersPresent_whenSeekAllCustomersApi_thenPagesFollowNextCursor() throws Exception {
+        addCustomer("TestName1", "TestLastName1", false);
+        addCustomer("TestName2", "TestLastName2", true);
+        addCustomer("TestName3", "TestLastName3", false);
+        addCustomer("TestName4", "TestLastName4", false);
+        final ResultActions firstPage = mockMvc.perform(get(CUSTOMERS_SEEK_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath(format(CONTENT_DATA_XPATH_FORMAT, "firstName")).value(contains("TestName1", "TestName3")))
+            .andExpect(jsonPath(SIZE_XPATH).value(2))
+            .andExpect(jsonPath(NEXT_CURSOR_XPATH).isNotEmpty());
+        final String nextCursor = (String) new ObjectMapper().readValue(firstPage.andReturn().getResponse().getContentAsString(), Map.class).get(NEXT_CURSOR_XPATH);
+
+        mockMvc.perform(get(CUSTOMERS_SEEK_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("size", "2").param("cursor", nextCursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(format(CONTENT_DATA_XPATH_FORMAT, "firstName")).value(contains("TestName4")))
+            .andExpect(jsonPath(SIZE_XPATH).value(1))
+            .andExpect(jsonPath(NEXT_CURSOR_XPATH).doesNotExist());
+    }
+
+    @Test
+    void givenMalformedCursor_whenSeekAllCustomersApi_thenBadRequestStatus() throws Exception {
+        checkErrorMessage(mockMvc.perform(get(CUSTOMERS_SEEK_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("cursor", "%%%")), status().isBadRequest(),
+            ErrorMessage.builder().withField("cursor").withSeverity(Severity.DATA).withType("InvalidDataException").build());
+    }
+
     @Test
     void givenInvalidBid_whenGetByBid_theBadRequestStatus() throws Exception {
         final ErrorMessage errorMessage = ErrorMessage.builder().withMessage(INVALID_BID_MESSAGE_FOR_GET).withSeverity(Severity.DATA).withType("ConstraintViolationException").build();
@@ -210,6 +264,104 @@ class CustomerControllerITTest {
             .andExpect(jsonPath("firstName").value("TestName"));
     }
 
+    @Test
+    void givenETagOfCustomer_whenGetByBidWithIfNoneMatch_thenNotModifiedStatus() throws Exception {
+        final String businessId = addCustomer("TestName", "TestLastName", false);
+        final String etag = mockMvc.perform(get(format(CUSTOMERS_BID_URI_FORMAT, businessId)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(format(CUSTOMERS_BID_URI_FORMAT, businessId)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenOtherETag_whenGetByBidWithIfNoneMatch_thenOkStatusWithCustomerResponse() throws Exception {
+        final String businessId = addCustomer("TestName", "TestLastName", false);
+        mockMvc.perform(get(format(CUSTOMERS_BID_URI_FORMAT, businessId)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).header(HttpHeaders.IF_NONE_MATCH, "\"CU000000000000-0\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("firstName").value("TestName"));
+    }
+
+    @Test
+    void givenETagOfPage_whenGetAllCustomersApiWithIfNoneMatch_thenNotModifiedUntilPageChanges() throws Exception {
+        addCustomer("TestName", "TestLastName", false);
+        final String etag = mockMvc.perform(get(CUSTOMERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("size", "5"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(CUSTOMERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        addCustomer("OtherName", "OtherLastName", false);
+        mockMvc.perform(get(CUSTOMERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(SIZE_XPATH).value(2));
+    }
+
+    @Test
+    void givenFoundAndMissingBids_whenLookupCustomers_thenResultsInRequestOrder() throws Exception {
+        final String first = addCustomer("FirstName", "TestLastName", false);
+        final String second = addCustomer("SecondName", "TestLastName", false);
+        final String deleted = addCustomer("DeletedName", "TestLastName", true);
+
+        mockMvc.perform(post(CUSTOMERS_LOOKUP_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(List.of(second, "CU123456789011", deleted, first))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", contains(second, "CU123456789011", deleted, first)))
+            .andExpect(jsonPath("$[*].status", contains("FOUND", "NOT_FOUND", "NOT_FOUND", "FOUND")))
+            .andExpect(jsonPath("$[0].data.firstName").value("SecondName"))
+            .andExpect(jsonPath("$[1].data").doesNotExist())
+            .andExpect(jsonPath("$[3].data.firstName").value("FirstName"));
+    }
+
+    @Test
+    void givenInvalidBid_whenLookupCustomers_thenBadRequestStatus() throws Exception {
+        mockMvc.perform(post(CUSTOMERS_LOOKUP_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(List.of("AC123456789011"))))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenNoBids_whenLookupCustomers_thenBadRequestStatus() throws Exception {
+        mockMvc.perform(post(CUSTOMERS_LOOKUP_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).contentType(MediaType.APPLICATION_JSON).content("[]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenCustomerWithoutAccounts_whenGetCustomerSummary_thenZeroAccounts() throws Exception {
+        final String businessId = addCustomer("TestName", "TestLastName", false);
+        mockMvc.perform(get(format(CUSTOMERS_SUMMARY_URI_FORMAT, businessId)).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("customerId").value(businessId))
+            .andExpect(jsonPath("accounts").value(0))
+            .andExpect(jsonPath("accountsByCurrency").isEmpty());
+    }
+
+    @Test
+    void givenBidNotPresent_whenGetCustomerSummary_thenNotFoundStatus() throws Exception {
+        mockMvc.perform(get(format(CUSTOMERS_SUMMARY_URI_FORMAT, "CU123456789011")).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath(ERROR_MESSAGE_XPATH).value(notFoundErrorMessage("CU123456789011")));
+    }
+
+    @Test
+    void givenCustomersPresent_whenGetAllCustomerSummaries_thenSameOrderAsCustomersPage() throws Exception {
+        addCustomer("FirstName", "TestLastName", false);
+        addCustomer("SecondName", "TestLastName", false);
+        final String customers = mockMvc.perform(get(CUSTOMERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andReturn().getResponse().getContentAsString();
+        final List<String> customerIds = JsonPath.read(customers, format(CONTENT_DATA_XPATH_FORMAT, "customerId"));
+
+        mockMvc.perform(get(CUSTOMERS_SUMMARY_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(format(CONTENT_DATA_XPATH_FORMAT, "customerId")).value(customerIds))
+            .andExpect(jsonPath(TOTAL_SIZE_XPATH).value(customerIds.size()));
+    }
+
     @Test
     void givenInvalidBid_whenDeleteByBid_theBadRequestStatus() throws Exception {
         final ErrorMessage errorMessage = ErrorMessage.builder().withMessage(INVALID_BID_MESSAGE_FOR_DELETE).withSeverity(Severity.DATA).withType("ConstraintViolationException").build();
@@ -263,6 +415,33 @@ class CustomerControllerITTest {
         customerRepository.deleteByBusinessId((String) new ObjectMapper().readValue(actions.andReturn().getResponse().getContentAsString(), Map.class).get("customerId"));
     }
 
+    @Test
+    void givenProperBatchRequest_whenCreateCustomers_thenCustomersCreatedInRequestOrder() throws Exception {
+        final List<CustomerRequest> customerRequests = List.of(
+            CustomerRequest.builder().withFirstName("Fname").withLastName("LnameOne").build(),
+            CustomerRequest.builder().withFirstName("Fname").withLastName("LnameTwo").build());
+        ResultActions actions = mockMvc.perform(post(CUSTOMERS_BATCH_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(customerRequests)));
+
+        actions.andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].index").value(contains(0, 1)))
+            .andExpect(jsonPath("$[*].status").value(contains("CREATED", "CREATED")))
+            .andExpect(jsonPath("$[*].data.lastName").value(contains("LnameOne", "LnameTwo")));
+
+        for (Object item : new ObjectMapper().readValue(actions.andReturn().getResponse().getContentAsString(), List.class)) {
+            customerRepository.deleteByBusinessId((String) ((Map<?, ?>) ((Map<?, ?>) item).get("data")).get("customerId"));
+        }
+    }
+
+    @Test
+    void givenInvalidItemInBatchRequest_whenCreateCustomers_thenBadRequestStatus() throws Exception {
+        final List<CustomerRequest> customerRequests = List.of(
+            CustomerRequest.builder().withFirstName("Fname").withLastName("LnameOne").build(),
+            CustomerRequest.builder().withFirstName("123456").withLastName("Lname").build());
+        ResultActions actions = mockMvc.perform(post(CUSTOMERS_BATCH_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(customerRequests)));
+
+        checkErrorMessage(actions, status().isBadRequest(), ErrorMessage.builder().withSeverity(Severity.DATA).withType("ConstraintViolationException").build());
+    }
+
     private void testBadRequestWhenIncorrectCustomerData(final CustomerRequest customerRequest,
                                                          final String errorMessage) throws Exception {
         ResultActions actions = mockMvc.perform(post(CUSTOMERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS).contentType(MediaType.APPLICATION_JSON).content(null != customerRequest ? new ObjectMapper().writeValueAsString(customerRequest) : " "));
@@ -0,0 +1,151 @@
+package com.accountservice.controllers;
+
+import static com.accountservice.controllers.TestConstants.CONTENT_DATA_XPATH_FORMAT;
+import static com.accountservice.controllers.TestConstants.CORRECT_BASIC_AUTH_DETAILS;
+import static com.accountservice.controllers.TestConstants.ERROR_TYPE_XPATH;
+import static com.accountservice.controllers.TestConstants.SECURITY_HEADER;
+import static com.accountservice.controllers.TestConstants.SIZE_XPATH;
+import static com.accountservice.controllers.TestConstants.TOTAL_SIZE_XPATH;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// JPA and R2DBC open the same named in-memory database
+@SpringBootTest(classes = AccountServiceApp.class, webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+    "account-service.reactive.enabled=true",
+    "account-service.reactive.url=r2dbc:h2:mem:///reactive?options=DB_CLOSE_DELAY=-1"})
+@AutoConfigureMockMvc
+class ReactiveAccountControllerITTest {
+    private static final String ACCOUNT_BID_URI_FORMAT = "/reactive/accounts/%s";
+    private static final String CUSTOMER_ACCOUNTS_URI_FORMAT = "/reactive/accounts/for/customer/%s";
+    private static final String CUSTOMER_ACCOUNTS_STREAM_URI_FORMAT = CUSTOMER_ACCOUNTS_URI_FORMAT + "/stream";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private final List<Account> accountsForDelete = new ArrayList<>();
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = TestData.saveCustomer(customerRepository, "TestName");
+    }
+
+    @AfterEach
+    void dataCleanUp() {
+        accountRepository.deleteAll(accountsForDelete);
+        accountsForDelete.clear();
+        customerRepository.delete(customer);
+    }
+
+    // Reactive results are completed on another thread and dispatched back to the servlet container
+    private ResultActions performAsync(final String uri) throws Exception {
+        final MvcResult result = mockMvc.perform(get(uri).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    @Test
+    void givenAccountPresent_whenGetAccountByBidApi_thenAccountReturned() throws Exception {
+        final String accountId = addAccount(1);
+
+        performAsync(format(ACCOUNT_BID_URI_FORMAT, accountId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("accountId").value(accountId))
+            .andExpect(jsonPath("customerId").value(customer.getBusinessId()))
+            .andExpect(jsonPath("currency").value("GBP"));
+    }
+
+    @Test
+    void givenAccountNotPresent_whenGetAccountByBidApi_thenNotFoundStatus() throws Exception {
+        performAsync(format(ACCOUNT_BID_URI_FORMAT, "AC123456789011"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("DataNotFoundException"));
+    }
+
+    @Test
+    void givenAccountsOfACustomer_whenFindAllAccountsForCustomerApi_thenPageOfAccountsInIdOrder() throws Exception {
+        final List<String> accountIds = List.of(addAccount(1), addAccount(2), addAccount(3));
+
+        performAsync(format(CUSTOMER_ACCOUNTS_URI_FORMAT, customer.getBusinessId()) + "?size=2&pageNo=0")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(SIZE_XPATH).value(2))
+            .andExpect(jsonPath(TOTAL_SIZE_XPATH).value(3))
+            .andExpect(jsonPath(format(CONTENT_DATA_XPATH_FORMAT, "accountId"), contains(accountIds.get(0), accountIds.get(1))));
+    }
+
+    @Test
+    void givenCustomerNotPresent_whenFindAllAccountsForCustomerApi_thenNotFoundStatus() throws Exception {
+        performAsync(format(CUSTOMER_ACCOUNTS_URI_FORMAT, "CU123456789011"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("DataNotFoundException"));
+    }
+
+    @Test
+    void givenAccountsOfACustomer_whenStreamAccountsForCustomerApi_thenOneJsonLinePerAccount() throws Exception {
+        final List<String> accountIds = List.of(addAccount(1), addAccount(2));
+
+        final String body = performAsync(format(CUSTOMER_ACCOUNTS_STREAM_URI_FORMAT, customer.getBusinessId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final List<Object> streamed = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            streamed.add(objectMapper.readValue(line, Map.class).get("accountId"));
+        }
+        assertThat(streamed).containsExactlyElementsOf(accountIds);
+    }
+
+    @Test
+    void givenInvalidAccountBid_whenGetAccountByBidApi_thenBadRequestStatus() throws Exception {
+        mockMvc.perform(get(format(ACCOUNT_BID_URI_FORMAT, "CU123456789011")).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("ConstraintViolationException"));
+    }
+
+    private String addAccount(final int number) {
+        final Account account = accountRepository.save(TestData.account(customer, number));
+        accountsForDelete.add(account);
+        return account.getBusinessId();
+    }
+}
@@ -19,6 +19,12 @@ public final class TestConstants {
 
     static final String PAGE_XPATH = "page";
 
+    static final String HAS_NEXT_XPATH = "hasNext";
+
+    static final String COUNT_MODE_XPATH = "countMode";
+
+    static final String NEXT_CURSOR_XPATH = "nextCursor";
+
     static final String CONTENT_DATA_XPATH_FORMAT = "$." + CONTENT_XPATH + "[*].%s";
 
     static final String ERROR_MESSAGE_XPATH = "message";
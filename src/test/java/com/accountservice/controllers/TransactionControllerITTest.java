@@ -0,0 +1,199 @@
+package com.accountservice.controllers;
+
+import static com.accountservice.controllers.TestConstants.CONTENT_DATA_XPATH_FORMAT;
+import static com.accountservice.controllers.TestConstants.CORRECT_BASIC_AUTH_DETAILS;
+import static com.accountservice.controllers.TestConstants.ERROR_TYPE_XPATH;
+import static com.accountservice.controllers.TestConstants.NEXT_CURSOR_XPATH;
+import static com.accountservice.controllers.TestConstants.SECURITY_HEADER;
+import static com.accountservice.controllers.TestConstants.SIZE_XPATH;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.LedgerEntryType;
+import com.accountservice.models.TransactionRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(classes = AccountServiceApp.class, webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class TransactionControllerITTest {
+    private static final String TRANSACTIONS_URI_FORMAT = "/accounts/%s/transactions";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+
+    private Account account;
+
+    private static TransactionRequest transactionRequest(final LedgerEntryType type, final String amount) {
+        return TransactionRequest.builder().withType(type).withAmount(new BigDecimal(amount)).withDescription("Test transaction").build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        account = TestData.customerWithAccounts(customerRepository, accountRepository, "TestName", 1234567891, 1).get(0);
+        customer = account.getCustomer();
+    }
+
+    @AfterEach
+    void dataCleanUp() {
+        jdbcTemplate.update("delete from ledger_entry where account_id = ?", account.getId());
+        accountRepository.delete(account);
+        customerRepository.delete(customer);
+    }
+
+    private MockHttpServletRequestBuilder postRequest(final TransactionRequest request) throws Exception {
+        return post(format(TRANSACTIONS_URI_FORMAT, account.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+            .contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(request));
+    }
+
+    private Map<String, Object> postTransaction(final TransactionRequest request) throws Exception {
+        return postTransaction(postRequest(request));
+    }
+
+    private Map<String, Object> postTransaction(final MockHttpServletRequestBuilder request) throws Exception {
+        final String body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return new ObjectMapper().readValue(body, Map.class);
+    }
+
+    @Test
+    void givenProperRequest_whenPostTransaction_thenFirstSequenceOfAccount() throws Exception {
+        mockMvc.perform(post(format(TRANSACTIONS_URI_FORMAT, account.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(transactionRequest(LedgerEntryType.CREDIT, "10.50"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("accountId").value(account.getBusinessId()))
+            .andExpect(jsonPath("sequence").value(1))
+            .andExpect(jsonPath("type").value("CREDIT"))
+            .andExpect(jsonPath("amount").value(10.5))
+            .andExpect(jsonPath("postedOn").exists());
+    }
+
+    @Test
+    void givenConcurrentPostings_whenPostTransaction_thenSequencesWithoutGapsAndListedInOrder() throws Exception {
+        final int postings = 40;
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Future<Map<String, Object>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < postings; i++) {
+                final LedgerEntryType type = i % 2 == 0 ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT;
+                results.add(executorService.submit(() -> postTransaction(transactionRequest(type, "1"))));
+            }
+            final List<Long> sequences = new ArrayList<>();
+            for (Future<Map<String, Object>> result : results) {
+                sequences.add(((Number) result.get().get("sequence")).longValue());
+            }
+            assertThat(sequences).containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, postings).boxed().collect(Collectors.toList()));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        final String body = mockMvc.perform(get(format(TRANSACTIONS_URI_FORMAT, account.getBusinessId())).param("size", "30").header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(SIZE_XPATH).value(30))
+            .andExpect(jsonPath(format(CONTENT_DATA_XPATH_FORMAT, "sequence"), contains(LongStream.rangeClosed(1, 30).mapToInt(i -> (int) i).boxed().toArray())))
+            .andReturn().getResponse().getContentAsString();
+        final String nextCursor = (String) new ObjectMapper().readValue(body, Map.class).get(NEXT_CURSOR_XPATH);
+
+        mockMvc.perform(get(format(TRANSACTIONS_URI_FORMAT, account.getBusinessId())).param("size", "30").param("cursor", nextCursor).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(SIZE_XPATH).value(postings - 30))
+            .andExpect(jsonPath(NEXT_CURSOR_XPATH).doesNotExist());
+    }
+
+    @Test
+    void givenSameIdempotencyKey_whenPostTransactionTwice_thenPostedOnce() throws Exception {
+        postTransaction(transactionRequest(LedgerEntryType.CREDIT, "5"));
+        final Map<String, Object> first = postTransaction(postRequest(transactionRequest(LedgerEntryType.CREDIT, "10.50")).header(IDEMPOTENCY_KEY_HEADER, "retried-key"));
+        final Map<String, Object> retried = postTransaction(postRequest(transactionRequest(LedgerEntryType.CREDIT, "10.50")).header(IDEMPOTENCY_KEY_HEADER, "retried-key"));
+
+        assertThat(first.get("sequence")).isEqualTo(2);
+        assertThat(retried).isEqualTo(first);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from ledger_entry where account_id = ?", Integer.class, account.getId())).isEqualTo(2);
+        assertThat(accountRepository.findById(account.getId()).orElseThrow().getBalance()).isEqualByComparingTo("15.50");
+    }
+
+    @Test
+    void givenIdempotencyKeyOfOtherPosting_whenPostTransaction_thenBadRequest() throws Exception {
+        postTransaction(postRequest(transactionRequest(LedgerEntryType.CREDIT, "10.50")).header(IDEMPOTENCY_KEY_HEADER, "reused-key"));
+
+        mockMvc.perform(postRequest(transactionRequest(LedgerEntryType.CREDIT, "11")).header(IDEMPOTENCY_KEY_HEADER, "reused-key"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("InvalidDataException"));
+    }
+
+    @Test
+    void givenConcurrentPostingsWithSameIdempotencyKey_whenPostTransaction_thenOneEntry() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Future<Map<String, Object>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(executorService.submit(() -> postTransaction(postRequest(transactionRequest(LedgerEntryType.CREDIT, "1")).header(IDEMPOTENCY_KEY_HEADER, "concurrent-key"))));
+            }
+            for (Future<Map<String, Object>> result : results) {
+                assertThat(result.get().get("sequence")).isEqualTo(1);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(jdbcTemplate.queryForObject("select count(*) from ledger_entry where account_id = ?", Integer.class, account.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void givenUnknownAccount_whenPostTransaction_thenNotFound() throws Exception {
+        mockMvc.perform(post(format(TRANSACTIONS_URI_FORMAT, "AC999999999999")).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(transactionRequest(LedgerEntryType.CREDIT, "1"))))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("DataNotFoundException"));
+    }
+
+    @Test
+    void givenNegativeAmount_whenPostTransaction_thenBadRequest() throws Exception {
+        mockMvc.perform(post(format(TRANSACTIONS_URI_FORMAT, account.getBusinessId())).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(transactionRequest(LedgerEntryType.DEBIT, "-1"))))
+            .andExpect(status().isBadRequest());
+    }
+}
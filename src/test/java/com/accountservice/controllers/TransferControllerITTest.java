@@ -0,0 +1,107 @@
+package com.accountservice.controllers;
+
+import static com.accountservice.controllers.TestConstants.CORRECT_BASIC_AUTH_DETAILS;
+import static com.accountservice.controllers.TestConstants.ERROR_TYPE_XPATH;
+import static com.accountservice.controllers.TestConstants.SECURITY_HEADER;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.TransferRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(classes = AccountServiceApp.class, webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class TransferControllerITTest {
+    private static final String TRANSFERS_URI = "/transfers";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+
+    private Account from;
+
+    private Account to;
+
+    private static String transferRequest(final String fromBid, final String toBid) throws Exception {
+        return new ObjectMapper().writeValueAsString(TransferRequest.builder()
+            .withFromAccountBid(fromBid)
+            .withToAccountBid(toBid)
+            .withAmount(new BigDecimal("10.50"))
+            .withDescription("Test transfer")
+            .build());
+    }
+
+    @BeforeEach
+    void setUp() {
+        final List<Account> accounts = TestData.customerWithAccounts(customerRepository, accountRepository, "TestName", 1234567891, 2);
+        customer = accounts.get(0).getCustomer();
+        from = accounts.get(0);
+        to = accounts.get(1);
+    }
+
+    @AfterEach
+    void dataCleanUp() {
+        jdbcTemplate.update("delete from ledger_entry where account_id in (?, ?)", from.getId(), to.getId());
+        accountRepository.delete(from);
+        accountRepository.delete(to);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    void givenProperRequest_whenTransfer_thenDebitAndCreditPosted() throws Exception {
+        mockMvc.perform(post(TRANSFERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(transferRequest(from.getBusinessId(), to.getBusinessId())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("debit.accountId").value(from.getBusinessId()))
+            .andExpect(jsonPath("debit.type").value("DEBIT"))
+            .andExpect(jsonPath("debit.sequence").value(1))
+            .andExpect(jsonPath("credit.accountId").value(to.getBusinessId()))
+            .andExpect(jsonPath("credit.type").value("CREDIT"))
+            .andExpect(jsonPath("credit.amount").value(10.5));
+    }
+
+    @Test
+    void givenSameAccount_whenTransfer_thenBadRequest() throws Exception {
+        mockMvc.perform(post(TRANSFERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(transferRequest(from.getBusinessId(), from.getBusinessId())))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath(ERROR_TYPE_XPATH).value("InvalidDataException"));
+    }
+
+    @Test
+    void givenMalformedAccountBid_whenTransfer_thenBadRequest() throws Exception {
+        mockMvc.perform(post(TRANSFERS_URI).header(SECURITY_HEADER, CORRECT_BASIC_AUTH_DETAILS)
+                .contentType(MediaType.APPLICATION_JSON).content(transferRequest("CU123456789123", to.getBusinessId())))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,190 @@
+package com.accountservice.daos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.AccountFilter;
+import com.accountservice.models.AccountRequest;
+import com.accountservice.models.AccountResponse;
+import com.accountservice.models.BatchItemResponse;
+import com.accountservice.models.BatchItemStatus;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CustomerSummaryResponse;
+import com.accountservice.models.PageResponse;
+import com.accountservice.services.AccountService;
+import com.accountservice.services.CustomerService;
+import com.accountservice.services.CustomerSummaryService;
+
+@SpringBootTest(classes = AccountServiceApp.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class AccountRepositoryITTest {
+    private static final int CUSTOMERS = 3;
+    private static final int ACCOUNTS_PER_CUSTOMER = 4;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerSummaryService customerSummaryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Customer firstCustomer;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CUSTOMERS; i++) {
+            final Customer customer = TestData.customerWithAccounts(customerRepository, accountRepository, "TestName" + i, i * ACCOUNTS_PER_CUSTOMER + 1,
+                ACCOUNTS_PER_CUSTOMER).get(0).getCustomer();
+            firstCustomer = firstCustomer == null ? customer : firstCustomer;
+        }
+        // Nothing may be answered from the persistence context, every row has to come from a statement
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void givenAccountsOfSeveralCustomers_whenFindAllWithoutCount_thenOneStatementPerPage() {
+        final PageResponse<AccountResponse> page = accountService.findAll(CUSTOMERS * ACCOUNTS_PER_CUSTOMER, 0, CountMode.NONE);
+
+        assertThat(page.getContent()).hasSize(CUSTOMERS * ACCOUNTS_PER_CUSTOMER).allSatisfy(account -> assertThat(account.getCustomerId()).isNotBlank());
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+    }
+
+    @Test
+    void givenAccountsOfSeveralCustomers_whenFindAllWithCount_thenPageAndCountStatementsOnly() {
+        final PageResponse<AccountResponse> page = accountService.findAll(ACCOUNTS_PER_CUSTOMER, 1);
+
+        assertThat(page.getContent()).hasSize(ACCOUNTS_PER_CUSTOMER).allSatisfy(account -> assertThat(account.getCustomerId()).isNotBlank());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void givenAccountsOfSeveralCustomers_whenSeekAll_thenOneStatementPerPage() {
+        final List<String> customerIds = accountService.findAllAfter(null, CUSTOMERS * ACCOUNTS_PER_CUSTOMER).getContent().stream().map(AccountResponse::getCustomerId).collect(Collectors.toList());
+
+        assertThat(customerIds).hasSize(CUSTOMERS * ACCOUNTS_PER_CUSTOMER).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+    }
+
+    @Test
+    void givenAccountsOfACustomer_whenFindAccountSliceByCustomer_thenCustomerJoinedInTheSameStatement() {
+        final PageResponse<AccountResponse> page = accountService.getAccountsForACustomer(firstCustomer.getBusinessId(), 0, ACCOUNTS_PER_CUSTOMER, CountMode.NONE);
+
+        assertThat(page.getContent()).hasSize(ACCOUNTS_PER_CUSTOMER).allSatisfy(account -> assertThat(account.getCustomerId()).isEqualTo(firstCustomer.getBusinessId()));
+        // One statement for the customer lookup by business id, one for the accounts page
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void givenAccountsOfSeveralCustomers_whenGetSummaries_thenOneGroupedStatementWithoutLoadingAccounts() {
+        final PageResponse<CustomerSummaryResponse> page = customerSummaryService.getSummaries(CUSTOMERS, 0, CountMode.NONE);
+
+        assertThat(page.getContent()).hasSize(CUSTOMERS).allSatisfy(summary -> {
+            assertThat(summary.getAccounts()).isEqualTo(ACCOUNTS_PER_CUSTOMER);
+            assertThat(summary.getAccountsByCurrency()).containsExactly(entry("GBP", (long) ACCOUNTS_PER_CUSTOMER));
+        });
+        // One statement for the customers page, one grouped count for all of them
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(CUSTOMERS);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void givenFilterWithoutCount_whenFindAll_thenOneStatementWithCustomerJoined() {
+        final AccountFilter filter = AccountFilter.builder().withCurrency("GBP").withSort("createdOn,desc").build();
+
+        final PageResponse<AccountResponse> page = accountService.findAll(filter, ACCOUNTS_PER_CUSTOMER, 0, CountMode.NONE, etag -> false);
+
+        assertThat(page.getContent()).hasSize(ACCOUNTS_PER_CUSTOMER).allSatisfy(account -> assertThat(account.getCustomerId()).isNotBlank());
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+    }
+
+    @Test
+    void givenAccountOfACustomer_whenSaved_thenCustomerIdStored() {
+        final Account account = TestData.account(firstCustomer, 999);
+
+        accountRepository.save(account);
+        entityManager.flush();
+
+        final Number customerId = (Number) entityManager.createNativeQuery("select customer_id from account where id = :id")
+            .setParameter("id", account.getId())
+            .getSingleResult();
+        assertThat(customerId.longValue()).isEqualTo(firstCustomer.getId());
+    }
+
+    @Test
+    void givenManyAccountRequests_whenCreateAll_thenInsertsAreBatched() {
+        final int accounts = 120;
+        final List<AccountRequest> accountRequests = IntStream.range(0, accounts)
+            .mapToObj(i -> AccountRequest.builder()
+                .withName("testaccount")
+                .withDescription("Test account")
+                .withSortCode("101010")
+                .withNumber(1000 + i)
+                .withCurrency("GBP")
+                .withCustomerBid(firstCustomer.getBusinessId())
+                .build())
+            .collect(Collectors.toList());
+
+        final List<BatchItemResponse<AccountResponse>> results = accountService.createAll(accountRequests);
+        entityManager.flush();
+
+        assertThat(results).hasSize(accounts).allSatisfy(result -> assertThat(result.getStatus()).isEqualTo(BatchItemStatus.CREATED));
+        // One customer lookup, a few sequence block allocations and one insert statement per JDBC batch of 50
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    @Test
+    void givenCustomerWithAccounts_whenDelete_thenRowsKeptAndMarkedDeletedWithoutLoadingAccounts() {
+        customerService.delete(firstCustomer.getBusinessId());
+
+        // One statement for the customer lookup by business id, one update for the customer and one for all its accounts
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        final Number deletedAccounts = (Number) entityManager.createNativeQuery("select count(*) from account where customer_id = :customerId and deleted_on is not null")
+            .setParameter("customerId", firstCustomer.getId())
+            .getSingleResult();
+        assertThat(deletedAccounts.intValue()).isEqualTo(ACCOUNTS_PER_CUSTOMER);
+        assertThat(customerRepository.getCustomerByBusinessId(firstCustomer.getBusinessId())).isEmpty();
+    }
+}
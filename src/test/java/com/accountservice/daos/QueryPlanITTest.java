@@ -0,0 +1,102 @@
+package com.accountservice.daos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+// Plans of the statements hibernate generates for the repository queries, against the migrated schema. The statements
+// are captured as hibernate sends them and explained with their parameters unbound, the plan shows them as ?1, ?2...
+@SpringBootTest(classes = AccountServiceApp.class, properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.accountservice.daos.QueryPlanITTest$CapturedStatements")
+class QueryPlanITTest {
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Instantiated by hibernate, shared with the test through the static list
+    public static final class CapturedStatements implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(final String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    // Plan of the one statement the query sent
+    private String explain(final Runnable query) {
+        CapturedStatements.STATEMENTS.clear();
+        query.run();
+        assertThat(CapturedStatements.STATEMENTS).hasSize(1);
+        return jdbcTemplate.queryForObject("explain " + CapturedStatements.STATEMENTS.get(0), String.class);
+    }
+
+    @Test
+    void givenAccountsOfACustomerQuery_whenExplained_thenCompositeIndexUsed() {
+        final Customer customer = new Customer();
+        customer.setId(1L);
+
+        final String plan = explain(() -> accountRepository.findAccountSliceByCustomer(customer, Pageable.ofSize(25)));
+
+        // Both the customer and the deleted_on conditions are index conditions
+        assertThat(plan).containsPattern("ACCOUNT_CUSTOMER_ID_DELETED_ON_ID_IDX: DELETED_ON IS NULL\\s+AND CUSTOMER_ID = \\?1\\s+\\*/")
+            .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void givenAccountsCreatedInRangeSortedByCreatedOnQuery_whenExplained_thenCreatedOnIndexUsed() {
+        final Specification<Account> createdInRange = Specification.where(AccountSpecifications.createdFrom(LocalDateTime.of(2021, 12, 1, 0, 0)))
+            .and(AccountSpecifications.createdBefore(LocalDateTime.of(2022, 1, 1, 0, 0)));
+
+        final String plan = explain(() -> accountRepository.findSlice(createdInRange, PageRequest.of(0, 25, Sort.by(Sort.Direction.DESC, "createdOn", "id"))));
+
+        assertThat(plan).contains("ACCOUNT_CREATED_ON_ID_IDX").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void givenAccountsWithSortCodeQuery_whenExplained_thenSortCodeIndexUsed() {
+        final String plan = explain(() -> accountRepository.findSlice(AccountSpecifications.hasSortCode("101010"), PageRequest.of(0, 25, Sort.by("id"))));
+
+        assertThat(plan).contains("ACCOUNT_SORT_CODE_ID_IDX: SORT_CODE = ?1 */").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void givenAccountByBusinessIdQuery_whenExplained_thenUniqueIndexUsed() {
+        final String plan = explain(() -> accountRepository.getAccountByBusinessId("AC000000000001"));
+
+        assertThat(plan).contains("ACCOUNT_BUSINESS_ID_UK_INDEX_").contains("BUSINESS_ID = ?1 */")
+            .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void givenCustomerByBusinessIdQuery_whenExplained_thenUniqueIndexUsed() {
+        final String plan = explain(() -> customerRepository.getCustomerByBusinessId("CU000000000001"));
+
+        assertThat(plan).contains("CUSTOMER_BUSINESS_ID_UK_INDEX_").contains("BUSINESS_ID = ?1 */")
+            .doesNotContain(TABLE_SCAN);
+    }
+}
@@ -0,0 +1,135 @@
+package com.accountservice.generators;
+
+import static com.accountservice.Constants.ACCOUNT_BID_REGEX;
+import static com.accountservice.Constants.CUSTOMER_BID_REGEX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+@ExtendWith(MockitoExtension.class)
+class SequenceBusinessIdGeneratorTest {
+    private static final String NEXT_CUSTOMER_BLOCK_SQL = "select next value for customer_business_id_sequence";
+    private static final String NEXT_ACCOUNT_BLOCK_SQL = "select next value for account_business_id_sequence";
+    private static final String TAKEN_CUSTOMER_BIDS_SQL = "select business_id from customer where business_id between ? and ?"
+        + " union all select business_id from customer_archive where business_id between ? and ?";
+    private static final String TAKEN_ACCOUNT_BIDS_SQL = "select business_id from account where business_id between ? and ?"
+        + " union all select business_id from account_archive where business_id between ? and ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenEmptyTable_whenGenerate_thenIdsOfTheBlockInOrder() {
+        when(jdbcTemplate.queryForObject(NEXT_CUSTOMER_BLOCK_SQL, Long.class)).thenReturn(1L);
+        when(jdbcTemplate.queryForList(TAKEN_CUSTOMER_BIDS_SQL, String.class, "CU000000000001", "CU000000000100", "CU000000000001", "CU000000000100"))
+            .thenReturn(List.of());
+
+        final SequenceBusinessIdGenerator underTest = new SequenceBusinessIdGenerator(jdbcTemplate);
+
+        assertThat(underTest.generate(Customer.class)).isEqualTo("CU000000000001").matches(CUSTOMER_BID_REGEX);
+        assertThat(underTest.generate(Customer.class)).isEqualTo("CU000000000002");
+    }
+
+    @Test
+    void givenRandomIdsInTheBlock_whenGenerate_thenTakenIdsSkipped() {
+        when(jdbcTemplate.queryForObject(NEXT_ACCOUNT_BLOCK_SQL, Long.class)).thenReturn(4201L);
+        when(jdbcTemplate.queryForList(TAKEN_ACCOUNT_BIDS_SQL, String.class, "AC000000004201", "AC000000004300", "AC000000004201", "AC000000004300"))
+            .thenReturn(List.of("AC000000004201", "AC000000004203"));
+
+        final SequenceBusinessIdGenerator underTest = new SequenceBusinessIdGenerator(jdbcTemplate);
+
+        assertThat(underTest.generate(Account.class)).isEqualTo("AC000000004202").matches(ACCOUNT_BID_REGEX);
+        assertThat(underTest.generate(Account.class)).isEqualTo("AC000000004204");
+    }
+
+    @Test
+    void givenBlockAllTaken_whenGenerate_thenNextBlockUsed() {
+        final List<String> allTaken = new ArrayList<>();
+        for (int i = 1; i <= SequenceBusinessIdGenerator.BLOCK_SIZE; i++) {
+            allTaken.add(String.format("CU0%011d", i));
+        }
+        when(jdbcTemplate.queryForObject(NEXT_CUSTOMER_BLOCK_SQL, Long.class)).thenReturn(1L, 101L);
+        when(jdbcTemplate.queryForList(eq(TAKEN_CUSTOMER_BIDS_SQL), eq(String.class), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(allTaken, List.of());
+
+        final SequenceBusinessIdGenerator underTest = new SequenceBusinessIdGenerator(jdbcTemplate);
+
+        assertThat(underTest.generate(Customer.class)).isEqualTo("CU000000000101");
+    }
+
+    @Test
+    void givenSequenceBeyondTheIdDigits_whenGenerate_thenIllegalStateException() {
+        when(jdbcTemplate.queryForObject(NEXT_CUSTOMER_BLOCK_SQL, Long.class)).thenReturn(SequenceBusinessIdGenerator.MAX_SEQUENCE);
+
+        final SequenceBusinessIdGenerator underTest = new SequenceBusinessIdGenerator(jdbcTemplate);
+
+        assertThatIllegalStateException().isThrownBy(() -> underTest.generate(Customer.class));
+    }
+
+    @Test
+    void givenConcurrentCallers_whenGenerate_thenIdsUniqueAndOneSequenceCallPerBlock() throws Exception {
+        final AtomicLong sequence = new AtomicLong(1);
+        when(jdbcTemplate.queryForObject(NEXT_CUSTOMER_BLOCK_SQL, Long.class))
+            .thenAnswer(invocation -> sequence.getAndAdd(SequenceBusinessIdGenerator.BLOCK_SIZE));
+        when(jdbcTemplate.queryForList(eq(TAKEN_CUSTOMER_BIDS_SQL), eq(String.class), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(List.of());
+        final SequenceBusinessIdGenerator underTest = new SequenceBusinessIdGenerator(jdbcTemplate);
+        final int threads = 8;
+        final int idsPerThread = 20_000;
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        final List<Callable<Void>> callers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            callers.add(() -> {
+                String previous = "";
+                for (int j = 0; j < idsPerThread; j++) {
+                    final String id = underTest.generate(Customer.class);
+                    // Ids a caller sees follow the sequence
+                    assertThat(id).matches(CUSTOMER_BID_REGEX).isGreaterThan(previous);
+                    ids.add(id);
+                    previous = id;
+                }
+                return null;
+            });
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> result : executorService.invokeAll(callers)) {
+                result.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * idsPerThread);
+        verify(jdbcTemplate, times(threads * idsPerThread / SequenceBusinessIdGenerator.BLOCK_SIZE)).queryForObject(NEXT_CUSTOMER_BLOCK_SQL, Long.class);
+    }
+
+    @Test
+    void givenCamelCasedEntityName_whenTableOf_thenSnakeCased() {
+        assertThat(SequenceBusinessIdGenerator.tableOf(Customer.class)).isEqualTo("customer");
+    }
+}
@@ -0,0 +1,72 @@
+package com.accountservice.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+class SamplingTurboFilterTest {
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger serviceLogger = loggerContext.getLogger("com.accountservice.services.AccountServiceImpl");
+    private final Logger otherLogger = loggerContext.getLogger("org.hibernate.SQL");
+
+    private SamplingTurboFilter filter(final double sampleRate) {
+        final SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLoggerPrefix("com.accountservice.services");
+        filter.setSampleRate(sampleRate);
+        filter.start();
+        return filter;
+    }
+
+    private static FilterReply decide(final SamplingTurboFilter filter, final Logger logger, final Level level) {
+        return filter.decide(null, logger, level, "Creating {}", new Object[]{"Account"}, null);
+    }
+
+    @Test
+    void givenSampleRateZero_whenInfoOfSampledLogger_thenDenied() {
+        assertThat(decide(filter(0), serviceLogger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(filter(0), serviceLogger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void givenSampleRateZero_whenWarnOrError_thenNeutral() {
+        assertThat(decide(filter(0), serviceLogger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter(0), serviceLogger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void givenSampleRateZero_whenOtherLogger_thenNeutral() {
+        assertThat(decide(filter(0), otherLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void givenSampleRateOne_whenInfo_thenNeutral() {
+        assertThat(decide(filter(1), serviceLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void givenSampleRate_whenManyEvents_thenRoughlyThatShareKept() {
+        final SamplingTurboFilter filter = filter(0.1);
+        int kept = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (decide(filter, serviceLogger, Level.INFO) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+
+        assertThat(kept).isBetween(9_000, 11_000);
+    }
+
+    @Test
+    void givenSampleRateOutOfRange_whenStarted_thenNotStartedAndNeutral() {
+        final SamplingTurboFilter filter = filter(2);
+
+        assertThat(filter.isStarted()).isFalse();
+        assertThat(decide(filter, serviceLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
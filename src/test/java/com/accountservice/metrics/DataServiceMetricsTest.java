@@ -0,0 +1,87 @@
+package com.accountservice.metrics;
+
+import static com.accountservice.metrics.DataServiceMetrics.METRIC_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.accountservice.caches.BusinessIdCache;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.services.CustomerService;
+import com.accountservice.services.CustomerServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DataServiceMetricsTest {
+    private static final String BID = "CU123456789012";
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private CustomerService underTest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+            new CustomerServiceImpl(customerRepository, accountRepository, new BusinessIdCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry())));
+        proxyFactory.addAspect(new DataServiceMetrics(meterRegistry));
+        underTest = proxyFactory.getProxy();
+    }
+
+    private Timer timer(final String operation, final String outcome) {
+        return meterRegistry.find(METRIC_NAME).tags("entity", "Customer", "operation", operation, "outcome", outcome).timer();
+    }
+
+    @Test
+    void givenOperationSucceeds_whenCalled_thenTimedAsSuccess() {
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of());
+
+        underTest.findAllAfter(null, 10);
+        underTest.findAllAfter(null, 10);
+
+        assertThat(timer("findAllAfter", "SUCCESS").count()).isEqualTo(2);
+        assertThat(timer("findAllAfter", "SUCCESS").getId().getTag("exception")).isEqualTo("none");
+    }
+
+    @Test
+    void givenDataNotFound_whenCalled_thenTimedAsNotFoundAndRethrown() {
+        when(customerRepository.getCustomerByBusinessId(BID)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(DataNotFoundException.class).isThrownBy(() -> underTest.findByBid(BID));
+
+        assertThat(timer("findByBid", "NOT_FOUND").count()).isEqualTo(1);
+        assertThat(timer("findByBid", "NOT_FOUND").getId().getTag("exception")).isEqualTo("DataNotFoundException");
+        assertThat(timer("findByBid", "SUCCESS")).isNull();
+    }
+
+    @Test
+    void givenAccessor_whenCalled_thenNotTimed() {
+        assertThat(underTest.getName()).isEqualTo("Customer");
+
+        assertThat(meterRegistry.find(METRIC_NAME).timers()).isEmpty();
+    }
+}
@@ -4,16 +4,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,18 +29,33 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import com.accountservice.caches.BusinessIdCache;
 import com.accountservice.daos.AccountRepository;
 import com.accountservice.entities.Account;
 import com.accountservice.entities.Customer;
 import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.AccountFilter;
 import com.accountservice.models.AccountRequest;
 import com.accountservice.models.AccountResponse;
+import com.accountservice.models.BatchItemResponse;
+import com.accountservice.models.BatchItemStatus;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CursorPageResponse;
+import com.accountservice.models.LookupItemResponse;
+import com.accountservice.models.LookupItemStatus;
 import com.accountservice.models.PageResponse;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class AccountServiceImplTest {
     @Mock
@@ -41,6 +64,8 @@ class AccountServiceImplTest {
     private CustomerService customerService;
     @Mock
     private Page page;
+    @Mock
+    private EntityManager entityManager;
 
     @Captor
     private ArgumentCaptor<Account> accountArgumentCaptor;
@@ -48,6 +73,9 @@ class AccountServiceImplTest {
     @Captor
     private ArgumentCaptor<String> bidArgumentCaptor;
 
+    @Spy
+    private BusinessIdCache businessIdCache = new BusinessIdCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
     @InjectMocks
     private AccountServiceImpl underTest;
 
@@ -75,6 +103,7 @@ class AccountServiceImplTest {
             .withNumber(account.getNumber())
             .withName(account.getName())
             .withCustomerId(account.getCustomer().getBusinessId())
+            .withBalance(account.getBalance())
             .withCreatedOn(account.getCreatedOn().toLocalDateTime())
             .build();
     }
@@ -112,6 +141,35 @@ class AccountServiceImplTest {
         assertThat(result.getTotalSize()).isEqualTo(16l);
     }
 
+    @Test
+    void givenNoAccountsPresent_whenFindAllAfter_thenEmptyListWithoutCursorReturned() {
+        when(accountRepository.findByIdGreaterThanOrderByIdAsc(0L, Pageable.ofSize(2))).thenReturn(List.of());
+
+        final CursorPageResponse<AccountResponse> result = underTest.findAllAfter("", 1);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getSize()).isZero();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void givenMoreAccountsThanSize_whenFindAllAfter_thenPageWithNextCursorReturned() {
+        final Account account1 = account("TestName1", "SortCode1", 1234567, "bid1");
+        account1.setId(7L);
+        final Account account2 = account("TestName2", "SortCode1", 1234568, "bid2");
+        account2.setId(9L);
+        when(accountRepository.findByIdGreaterThanOrderByIdAsc(0L, Pageable.ofSize(2))).thenReturn(List.of(account1, account2));
+
+        final CursorPageResponse<AccountResponse> result = underTest.findAllAfter(null, 1);
+
+        assertThat(result.getContent()).containsExactly(accountResponse(account1));
+        assertThat(result.getSize()).isOne();
+
+        when(accountRepository.findByIdGreaterThanOrderByIdAsc(7L, Pageable.ofSize(2))).thenReturn(List.of(account2));
+
+        assertThat(underTest.findAllAfter(result.getNextCursor(), 1).getContent()).containsExactly(accountResponse(account2));
+    }
+
     @Test
     void givenAccountNotPresentForBid_whenFindByBid_thenDataNotFoundException() {
         when(accountRepository.getAccountByBusinessId("bid")).thenReturn(Optional.empty());
@@ -133,6 +191,98 @@ class AccountServiceImplTest {
         assertThat(response.getName()).isEqualTo("name");
     }
 
+    @Test
+    void givenMatchingETag_whenFindByBidIfModified_thenNullReturned() {
+        final Account account = account("name", "sortCode", 123456789, "bid");
+        when(accountRepository.getAccountByBusinessId("bid")).thenReturn(Optional.of(account));
+        final List<String> etags = new ArrayList<>();
+
+        final AccountResponse response = underTest.findByBid("bid", etags::add);
+
+        assertThat(response).isNull();
+        assertThat(etags).containsExactly("\"bid-" + account.getCreatedOn().getTime() + "\"");
+    }
+
+    @Test
+    void givenModifiedAccount_whenFindByBidIfModified_thenETagFollowsModifiedOnAndResponseReturned() {
+        final Account account = account("name", "sortCode", 123456789, "bid");
+        account.setModifiedOn(new Timestamp(account.getCreatedOn().getTime() + 1000));
+        when(accountRepository.getAccountByBusinessId("bid")).thenReturn(Optional.of(account));
+        final List<String> etags = new ArrayList<>();
+
+        final AccountResponse response = underTest.findByBid("bid", etag -> !etags.add(etag));
+
+        assertThat(response.getAccountId()).isEqualTo("bid");
+        assertThat(etags).containsExactly("\"bid-" + account.getModifiedOn().getTime() + "\"");
+    }
+
+    @Test
+    void givenSamePageTwice_whenFindAllIfModified_thenSameETagAndChangedRowChangesIt() {
+        final Account account = account("name", "sortCode", 123456789, "bid");
+        when(accountRepository.findAll(Pageable.ofSize(1).withPage(0))).thenReturn(new PageImpl<>(List.of(account), Pageable.ofSize(1), 3));
+        final List<String> etags = new ArrayList<>();
+
+        underTest.findAll(1, 0, CountMode.EXACT, etags::add);
+        underTest.findAll(1, 0, CountMode.EXACT, etags::add);
+        account.setModifiedOn(new Timestamp(account.getCreatedOn().getTime() + 1));
+        final PageResponse<AccountResponse> result = underTest.findAll(1, 0, CountMode.EXACT, etag -> !etags.add(etag));
+
+        assertThat(etags.get(0)).isEqualTo(etags.get(1)).isNotEqualTo(etags.get(2));
+        assertThat(result.getTotalSize()).isEqualTo(3);
+    }
+
+    @Test
+    void givenSomeBidsPresent_whenFindByBids_thenOneQueryAndResultsInRequestOrder() {
+        when(accountRepository.findByBusinessIdIn(Set.of("bid1", "bid2", "bid3")))
+            .thenReturn(List.of(account("name3", "sortCode", 3, "bid3"), account("name1", "sortCode", 1, "bid1")));
+
+        final List<LookupItemResponse<AccountResponse>> results = underTest.findByBids(List.of("bid3", "bid2", "bid1", "bid3"));
+
+        assertThat(results).extracting(LookupItemResponse::getId).containsExactly("bid3", "bid2", "bid1", "bid3");
+        assertThat(results).extracting(LookupItemResponse::getStatus)
+            .containsExactly(LookupItemStatus.FOUND, LookupItemStatus.NOT_FOUND, LookupItemStatus.FOUND, LookupItemStatus.FOUND);
+        assertThat(results.get(0).getData().getName()).isEqualTo("name3");
+        assertThat(results.get(1).getData()).isNull();
+        verify(accountRepository).findByBusinessIdIn(any());
+        verify(accountRepository, never()).getAccountByBusinessId(any());
+    }
+
+    @Test
+    void givenNoSort_whenSortOf_thenIdAscending() {
+        assertThat(AccountServiceImpl.sortOf(null)).isEqualTo(Sort.by("id"));
+        assertThat(AccountServiceImpl.sortOf("id,desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    @Test
+    void givenSortKey_whenSortOf_thenIdBreaksTiesInTheSameDirection() {
+        assertThat(AccountServiceImpl.sortOf("createdOn,desc")).isEqualTo(Sort.by(Sort.Direction.DESC, "createdOn", "id"));
+        assertThat(AccountServiceImpl.sortOf("sortCode")).isEqualTo(Sort.by(Sort.Direction.ASC, "sortCode", "id"));
+    }
+
+    @Test
+    void givenFilterWithoutCount_whenFindAll_thenSliceQueriedWithSort() {
+        when(accountRepository.findSlice(any(), any())).thenReturn(new SliceImpl<>(List.of(account("name", "sortCode", 1, "bid")), Pageable.ofSize(1), true));
+        final ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+
+        final PageResponse<AccountResponse> result = underTest.findAll(AccountFilter.builder().withCurrency("GBP").withSort("createdOn,desc").build(), 1, 2, CountMode.NONE, etag -> false);
+
+        verify(accountRepository).findSlice(any(), pageableCaptor.capture());
+        verify(accountRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        assertThat(pageableCaptor.getValue().getOffset()).isEqualTo(2);
+        assertThat(pageableCaptor.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdOn", "id"));
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getCountMode()).isEqualTo(CountMode.NONE);
+    }
+
+    @Test
+    void givenUnknownCustomerInFilter_whenFindAll_thenDataNotFoundException() {
+        when(customerService.getByBusinessId("cbid")).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(DataNotFoundException.class)
+            .isThrownBy(() -> underTest.findAll(AccountFilter.builder().withCustomerBid("cbid").build(), 1, 0, CountMode.EXACT, etag -> false));
+        verify(accountRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
     @Test
     void givenAccountNotPresentForBid_whenGetByBid_thenEmptyOptionalReturned() {
         when(accountRepository.getAccountByBusinessId(bidArgumentCaptor.capture())).thenReturn(Optional.empty());
@@ -186,18 +336,20 @@ class AccountServiceImplTest {
             .isThrownBy(() -> underTest.delete("bid"))
             .withMessage("Account not found with bid 'bid'");
 
-        verify(accountRepository, never()).delete(any(Account.class));
+        verify(accountRepository, never()).softDeleteById(anyLong(), any(Timestamp.class));
     }
 
     @Test
-    void givenAccountPresentForBid_whenDelete_thenCustomerDeleted() {
-        when(accountRepository.getAccountByBusinessId(bidArgumentCaptor.capture())).thenReturn(Optional.of(account("name", "sortCode", 123456789, "bid")));
-        doNothing().when(accountRepository).delete(accountArgumentCaptor.capture());
+    void givenAccountPresentForBid_whenDelete_thenAccountSoftDeleted() {
+        final Account account = account("name", "sortCode", 123456789, "bid");
+        account.setId(7L);
+        when(accountRepository.getAccountByBusinessId(bidArgumentCaptor.capture())).thenReturn(Optional.of(account));
 
         underTest.delete("bid");
 
         assertThat(bidArgumentCaptor.getValue()).isEqualTo("bid");
-        assertThat(accountArgumentCaptor.getValue().getBusinessId()).isEqualTo("bid");
+        verify(accountRepository).softDeleteById(eq(7L), any(Timestamp.class));
+        verify(accountRepository, never()).delete(any(Account.class));
     }
 
     @Test
@@ -243,4 +395,84 @@ class AccountServiceImplTest {
         assertThat(accounts.getContent().get(0).getSortCode()).isEqualTo("SortCode1");
         assertThat(accounts.getContent().get(0).getNumber()).isEqualTo(1234567);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenCountModeNone_getAccountsForACustomer_thenSliceQueriedWithoutCount() {
+        Customer customer = mock(Customer.class);
+        when(customerService.getByBusinessId("cbid")).thenReturn(Optional.of(customer));
+        final Account account1 = account("TestName1", "SortCode1", 1234567, "bid1");
+        when(accountRepository.findAccountSliceByCustomer(customer, Pageable.ofSize(1).withPage(0))).thenReturn(new SliceImpl<>(List.of(account1), Pageable.ofSize(1).withPage(0), false));
+
+        PageResponse<AccountResponse> accounts = underTest.getAccountsForACustomer("cbid", 0, 1, CountMode.NONE);
+
+        assertThat(accounts.getContent()).containsExactly(accountResponse(account1));
+        assertThat(accounts.isHasNext()).isFalse();
+        assertThat(accounts.getCountMode()).isEqualTo(CountMode.NONE);
+        assertThat(accounts.getTotalSize()).isNull();
+        verify(accountRepository, never()).findAccountsByCustomer(any(Customer.class), any(Pageable.class));
+    }
+
+    @Test
+    void givenAccountPresentForBid_whenFindByBidTwice_thenRepositoryQueriedOnce() {
+        when(accountRepository.getAccountByBusinessId("bid")).thenReturn(Optional.of(account("name", "sortCode", 123456789, "bid")));
+
+        assertThat(underTest.findByBid("bid").getAccountId()).isEqualTo("bid");
+        assertThat(underTest.findByBid("bid").getAccountId()).isEqualTo("bid");
+
+        verify(accountRepository).getAccountByBusinessId("bid");
+    }
+
+    @Test
+    void givenAccountCached_whenDelete_thenNextLookupQueriesRepository() {
+        when(accountRepository.getAccountByBusinessId("bid")).thenReturn(Optional.of(account("name", "sortCode", 123456789, "bid")), Optional.empty());
+        underTest.findByBid("bid");
+
+        underTest.delete("bid");
+
+        assertThat(underTest.getByBusinessId("bid")).isEmpty();
+    }
+
+    @Test
+    void givenOneOfTheCustomersMissing_whenCreateAll_thenOthersCreatedWithOneCustomerLookup() {
+        Customer customer = mock(Customer.class);
+        when(customerService.getByBusinessIds(Set.of("cBid", "missing"))).thenReturn(Map.of("cBid", customer));
+        final Account account1 = account("name1", "sortcode", 123456781, "bid1");
+        final Account account2 = account("name2", "sortcode", 123456782, "bid2");
+        when(accountRepository.saveAll(any())).thenReturn(List.of(account1, account2));
+
+        final List<BatchItemResponse<AccountResponse>> results = underTest.createAll(List.of(
+            AccountRequest.builder().withCustomerBid("cBid").withName("Test1").build(),
+            AccountRequest.builder().withCustomerBid("missing").withName("Test2").build(),
+            AccountRequest.builder().withCustomerBid("cBid").withName("Test3").build()));
+
+        assertThat(results).extracting(BatchItemResponse::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BatchItemResponse::getStatus).containsExactly(BatchItemStatus.CREATED, BatchItemStatus.FAILED, BatchItemStatus.CREATED);
+        assertThat(results.get(0).getData().getAccountId()).isEqualTo("bid1");
+        assertThat(results.get(1).getError().getMessage()).isEqualTo("Customer not found for bid 'missing'");
+        assertThat(results.get(2).getData().getAccountId()).isEqualTo("bid2");
+        verify(customerService, never()).getByBusinessId(any(String.class));
+    }
+
+    @Test
+    void givenAccountsPresent_whenExportAll_thenEveryAccountPassedToConsumer() {
+        final Account account1 = account("TestName1", "SortCode1", 1234567, "bid1");
+        final Account account2 = account("TestName2", "SortCode1", 1234568, "bid2");
+        when(accountRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(account1, account2));
+        final List<AccountResponse> exported = new ArrayList<>();
+
+        underTest.exportAll(exported::add);
+
+        assertThat(exported).containsExactly(accountResponse(account1), accountResponse(account2));
+    }
+
+    @Test
+    void givenCustomerNotPresentForBid_whenExportAccountsForACustomer_thenDataNotFoundExceptionBeforeAnyExport() {
+        assertThatThrownBy(() -> underTest.exportAccountsForACustomer("cbid", account -> {
+            throw new AssertionError("Nothing should be exported");
+        }))
+            .isInstanceOf(DataNotFoundException.class)
+            .hasMessage("Customer not found for bid 'cbid'");
+
+        verify(accountRepository, never()).streamAccountsByCustomerOrderByIdAsc(any(Customer.class));
+    }
+}
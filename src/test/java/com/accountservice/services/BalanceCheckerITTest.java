@@ -0,0 +1,106 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.LedgerEntryType;
+import com.accountservice.models.TransactionRequest;
+
+@SpringBootTest(classes = AccountServiceApp.class, properties = "account-service.ledger.snapshot-interval=10")
+class BalanceCheckerITTest {
+    private static final int POSTINGS = 25;
+
+    @Autowired
+    private BalanceChecker underTest;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LedgerDao ledgerDao;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = TestData.customerWithAccounts(customerRepository, accountRepository, "TestName", 1234567891, 1).get(0);
+        customer = account.getCustomer();
+        // Credits of 3 and debits of 1 alternate, 13 credits and 12 debits
+        for (int i = 0; i < POSTINGS; i++) {
+            transactionService.post(account.getBusinessId(), TransactionRequest.builder()
+                .withType(i % 2 == 0 ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT)
+                .withAmount(new BigDecimal(i % 2 == 0 ? "3" : "1"))
+                .build());
+        }
+    }
+
+    @AfterEach
+    void dataCleanUp() {
+        jdbcTemplate.update("delete from balance_snapshot where account_id = ?", account.getId());
+        jdbcTemplate.update("delete from ledger_entry where account_id = ?", account.getId());
+        jdbcTemplate.update("delete from account_archive where id = ?", account.getId());
+        accountRepository.delete(account);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    void givenPostings_whenGetAccount_thenBalanceOfAllPostingsAndSnapshotsTaken() {
+        assertThat(accountService.findByBid(account.getBusinessId()).getBalance()).isEqualByComparingTo("27");
+        assertThat(ledgerDao.findSnapshots(account.getId())).hasSize(2);
+        assertThat(ledgerDao.rebuildBalance(account.getId(), POSTINGS)).isEqualByComparingTo("27");
+        assertThat(ledgerDao.rebuildBalance(account.getId(), 10)).isEqualByComparingTo("10");
+    }
+
+    @Test
+    void givenConsistentLedger_whenCheck_thenNoMismatch() {
+        assertThat(underTest.check()).isZero();
+    }
+
+    @Test
+    void givenCorruptedSnapshotAndBalance_whenCheck_thenBothReported() {
+        jdbcTemplate.update("update balance_snapshot set balance = balance + 1 where account_id = ? and sequence = 10", account.getId());
+        jdbcTemplate.update("update account set balance = balance - 1 where id = ?", account.getId());
+
+        // The snapshot at 10 is off, the one at 20 still matches the history and the balance doesn't match its rebuild
+        assertThat(underTest.check()).isEqualTo(2);
+    }
+
+    @Test
+    void givenArchivedAccountWithCorruptedBalance_whenCheck_thenReported() {
+        jdbcTemplate.update("insert into account_archive (id, business_id, created_on, deleted_on, modified_on, currency, description, name, number, "
+            + "sort_code, customer_id, archived_on, ledger_sequence, balance) select id, business_id, created_on, current_timestamp, modified_on, currency, "
+            + "description, name, number, sort_code, customer_id, current_timestamp, ledger_sequence, balance + 1 from account where id = ?", account.getId());
+        jdbcTemplate.update("delete from account where id = ?", account.getId());
+
+        assertThat(underTest.check()).isOne();
+    }
+}
@@ -0,0 +1,80 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+
+@SpringBootTest(classes = AccountServiceApp.class)
+class CustomerServiceITTest {
+    @Autowired
+    private CustomerService underTest;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = TestData.customerWithAccounts(customerRepository, accountRepository, "TestName", 1234567891, 1).get(0);
+        customer = account.getCustomer();
+    }
+
+    @AfterEach
+    void dataCleanUp() {
+        jdbcTemplate.update("delete from account");
+        jdbcTemplate.update("delete from customer");
+    }
+
+    private boolean foundInOtherThread(final DataService<?, ?, ?> service, final String bId) throws Exception {
+        return CompletableFuture.supplyAsync(() -> service.getByBusinessId(bId).isPresent()).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void givenReadsOverlappingDelete_whenCommitted_thenDeletedRowsNotServedFromCache() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            underTest.delete(customer.getBusinessId());
+            try {
+                // Not committed yet, these reads still see and cache the live rows
+                assertThat(foundInOtherThread(underTest, customer.getBusinessId())).isTrue();
+                assertThat(foundInOtherThread(accountService, account.getBusinessId())).isTrue();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(underTest.getByBusinessId(customer.getBusinessId())).isEmpty();
+        assertThat(accountService.getByBusinessId(account.getBusinessId())).isEmpty();
+    }
+}
@@ -3,11 +3,15 @@ package com.accountservice.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -18,22 +22,35 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import com.accountservice.caches.BusinessIdCache;
+import com.accountservice.daos.AccountRepository;
 import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
 import com.accountservice.entities.Customer;
 import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.exceptions.InvalidDataException;
+import com.accountservice.models.CountMode;
 import com.accountservice.models.CustomerRequest;
 import com.accountservice.models.CustomerResponse;
+import com.accountservice.models.CursorPageResponse;
 import com.accountservice.models.PageResponse;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class CustomerServiceImplTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private AccountRepository accountRepository;
+
     @Mock
     private Page page;
 
@@ -43,6 +60,9 @@ class CustomerServiceImplTest {
     @Captor
     private ArgumentCaptor<String> bidArgumentCaptor;
 
+    @Spy
+    private BusinessIdCache businessIdCache = new BusinessIdCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
     @InjectMocks
     private CustomerServiceImpl underTest;
 
@@ -100,6 +120,57 @@ class CustomerServiceImplTest {
         assertThat(result.getTotalSize()).isEqualTo(16l);
     }
 
+    @Test
+    void givenCountModeNone_whenFindAll_thenSliceReturnedWithoutTotals() {
+        final Customer customer1 = customer("TestName1", "TestLastName1", "TestBid1");
+        when(customerRepository.findAllBy(Pageable.ofSize(1).withPage(2))).thenReturn(new SliceImpl<>(List.of(customer1), Pageable.ofSize(1).withPage(2), true));
+
+        final PageResponse<CustomerResponse> result = underTest.findAll(1, 2, CountMode.NONE);
+
+        assertThat(result.getContent()).containsExactly(customerResponse(customer1));
+        assertThat(result.getPage()).isEqualTo(2);
+        assertThat(result.getSize()).isOne();
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getCountMode()).isEqualTo(CountMode.NONE);
+        assertThat(result.getTotalSize()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+        verify(customerRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void givenNoCursor_whenFindAllAfter_thenFirstPageSeekedWithNextCursor() {
+        final Customer customer1 = customer("TestName1", "TestLastName1", "TestBid1");
+        customer1.setId(11L);
+        final Customer customer2 = customer("TestName2", "TestLastName2", "TestBid2");
+        customer2.setId(12L);
+        final Customer customer3 = customer("TestName3", "TestLastName3", "TestBid3");
+        customer3.setId(13L);
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(0L, Pageable.ofSize(3))).thenReturn(List.of(customer1, customer2, customer3));
+
+        final CursorPageResponse<CustomerResponse> result = underTest.findAllAfter(null, 2);
+
+        assertThat(result.getContent()).containsExactly(customerResponse(customer1), customerResponse(customer2));
+        assertThat(result.getSize()).isEqualTo(2);
+        assertThat(result.getNextCursor()).isNotBlank();
+
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(12L, Pageable.ofSize(3))).thenReturn(List.of(customer3));
+
+        final CursorPageResponse<CustomerResponse> nextPage = underTest.findAllAfter(result.getNextCursor(), 2);
+
+        assertThat(nextPage.getContent()).containsExactly(customerResponse(customer3));
+        assertThat(nextPage.getSize()).isOne();
+        assertThat(nextPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void givenMalformedCursor_whenFindAllAfter_thenInvalidDataException() {
+        assertThatExceptionOfType(InvalidDataException.class)
+            .isThrownBy(() -> underTest.findAllAfter("not-a-cursor", 2))
+            .withMessage("Invalid cursor 'not-a-cursor'");
+
+        verify(customerRepository, never()).findByIdGreaterThanOrderByIdAsc(any(Long.class), any(Pageable.class));
+    }
+
     @Test
     void givenCustomerNotPresentForBid_whenFindByBid_thenDataNotFoundException() {
         when(customerRepository.getCustomerByBusinessId("bid")).thenReturn(Optional.empty());
@@ -170,16 +241,60 @@ class CustomerServiceImplTest {
             .isThrownBy(() -> underTest.delete("bid"))
             .withMessage("Customer not found with bid 'bid'");
 
-        verify(customerRepository, never()).delete(any(Customer.class));
+        verify(customerRepository, never()).softDeleteById(anyLong(), any(Timestamp.class));
+        verify(accountRepository, never()).softDeleteByCustomerId(anyLong(), any(Timestamp.class));
     }
 
     @Test
-    void givenCustomerPresentForBid_whenDelete_thenCustomerDeleted() {
-        when(customerRepository.getCustomerByBusinessId(bidArgumentCaptor.capture())).thenReturn(Optional.of(customer("fName", "lName", "bid")));
+    void givenCustomerPresentForBid_whenDelete_thenCustomerAndAccountsSoftDeletedTogether() {
+        final Customer customer = customer("fName", "lName", "bid");
+        customer.setId(3L);
+        when(customerRepository.getCustomerByBusinessId(bidArgumentCaptor.capture())).thenReturn(Optional.of(customer));
+        final ArgumentCaptor<Timestamp> customerDeletedOn = ArgumentCaptor.forClass(Timestamp.class);
+        final ArgumentCaptor<Timestamp> accountsDeletedOn = ArgumentCaptor.forClass(Timestamp.class);
 
         underTest.delete("bid");
 
         assertThat(bidArgumentCaptor.getValue()).isEqualTo("bid");
+        verify(customerRepository).softDeleteById(eq(3L), customerDeletedOn.capture());
+        verify(accountRepository).softDeleteByCustomerId(eq(3L), accountsDeletedOn.capture());
+        assertThat(accountsDeletedOn.getValue()).isEqualTo(customerDeletedOn.getValue());
+        verify(customerRepository, never()).delete(any(Customer.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenCustomerPresentForBid_whenGetByBusinessIdTwice_thenRepositoryQueriedOnce() {
+        when(customerRepository.getCustomerByBusinessId("bid")).thenReturn(Optional.of(customer("fName", "lName", "bid")));
+
+        assertThat(underTest.getByBusinessId("bid")).isPresent();
+        assertThat(underTest.getByBusinessId("bid")).isPresent();
+
+        verify(customerRepository).getCustomerByBusinessId("bid");
+    }
+
+    @Test
+    void givenCustomerNotPresentForBid_whenGetByBusinessIdTwice_thenAbsenceNotCached() {
+        when(customerRepository.getCustomerByBusinessId("bid")).thenReturn(Optional.empty());
+
+        assertThat(underTest.getByBusinessId("bid")).isEmpty();
+        assertThat(underTest.getByBusinessId("bid")).isEmpty();
+
+        verify(customerRepository, times(2)).getCustomerByBusinessId("bid");
+    }
+
+    @Test
+    void givenCustomerAndItsAccountCached_whenDelete_thenBothEvicted() {
+        final Customer customer = customer("fName", "lName", "bid");
+        when(customerRepository.getCustomerByBusinessId("bid")).thenReturn(Optional.of(customer));
+        final Account account = new Account();
+        account.setBusinessId("abid");
+        account.setCustomer(customer);
+        businessIdCache.get("abid", bId -> Optional.of(account));
+
+        underTest.delete("bid");
+
+        assertThat(businessIdCache.get("abid", bId -> Optional.empty())).isEmpty();
+        assertThat(underTest.getByBusinessId("bid")).isPresent();
+        verify(customerRepository, times(2)).getCustomerByBusinessId("bid");
+    }
+}
@@ -0,0 +1,114 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerCurrencyCount;
+import com.accountservice.entities.Customer;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.CountMode;
+import com.accountservice.models.CustomerResponse;
+import com.accountservice.models.CustomerSummaryResponse;
+import com.accountservice.models.PageResponse;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSummaryServiceImplTest {
+    @Mock
+    private CustomerService customerService;
+    @Mock
+    private AccountRepository accountRepository;
+    @InjectMocks
+    private CustomerSummaryServiceImpl underTest;
+
+    private static CustomerCurrencyCount count(final String customerBid, final String currency, final long accounts) {
+        return new CustomerCurrencyCount() {
+            @Override
+            public String getCustomerBid() {
+                return customerBid;
+            }
+
+            @Override
+            public String getCurrency() {
+                return currency;
+            }
+
+            @Override
+            public long getAccounts() {
+                return accounts;
+            }
+        };
+    }
+
+    private static CustomerResponse customer(final String customerBid) {
+        return CustomerResponse.builder().withCustomerId(customerBid).build();
+    }
+
+    @Test
+    void givenCustomerNotPresent_whenGetSummary_thenDataNotFoundAndNoCount() {
+        when(customerService.getByBusinessId("cbid")).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(DataNotFoundException.class)
+            .isThrownBy(() -> underTest.getSummary("cbid"))
+            .withMessage("Customer not found with bid 'cbid'");
+        verify(accountRepository, never()).countByCustomerAndCurrency(any());
+    }
+
+    @Test
+    void givenAccountsInTwoCurrencies_whenGetSummary_thenTotalAndPerCurrencyCounts() {
+        when(customerService.getByBusinessId("cbid")).thenReturn(Optional.of(new Customer()));
+        when(accountRepository.countByCustomerAndCurrency(List.of("cbid"))).thenReturn(List.of(count("cbid", "GBP", 2), count("cbid", "EUR", 1)));
+
+        final CustomerSummaryResponse summary = underTest.getSummary("cbid");
+
+        assertThat(summary.getCustomerId()).isEqualTo("cbid");
+        assertThat(summary.getAccounts()).isEqualTo(3);
+        assertThat(summary.getAccountsByCurrency()).containsExactly(entry("EUR", 1L), entry("GBP", 2L));
+    }
+
+    @Test
+    void givenCustomersPage_whenGetSummaries_thenOneCountAndSummariesInPageOrder() {
+        when(customerService.findAll(2, 1, CountMode.EXACT)).thenReturn(PageResponse.<CustomerResponse>builder()
+            .withContent(List.of(customer("cbid2"), customer("cbid1")))
+            .withSize(2)
+            .withPage(1)
+            .withTotalSize(4L)
+            .withTotalPages(2)
+            .withCountMode(CountMode.EXACT)
+            .build());
+        when(accountRepository.countByCustomerAndCurrency(List.of("cbid2", "cbid1"))).thenReturn(List.of(count("cbid1", "GBP", 4)));
+
+        final PageResponse<CustomerSummaryResponse> page = underTest.getSummaries(2, 1, CountMode.EXACT);
+
+        assertThat(page.getContent()).extracting(CustomerSummaryResponse::getCustomerId).containsExactly("cbid2", "cbid1");
+        assertThat(page.getContent()).extracting(CustomerSummaryResponse::getAccounts).containsExactly(0L, 4L);
+        assertThat(page.getContent().get(0).getAccountsByCurrency()).isEmpty();
+        assertThat(page.getTotalSize()).isEqualTo(4L);
+        assertThat(page.getPage()).isEqualTo(1);
+    }
+
+    @Test
+    void givenEmptyCustomersPage_whenGetSummaries_thenNoCount() {
+        when(customerService.findAll(2, 0, CountMode.NONE)).thenReturn(PageResponse.<CustomerResponse>builder()
+            .withContent(List.of())
+            .withCountMode(CountMode.NONE)
+            .build());
+
+        assertThat(underTest.getSummaries(2, 0, CountMode.NONE).getContent()).isEmpty();
+        verify(accountRepository, never()).countByCustomerAndCurrency(any());
+    }
+}
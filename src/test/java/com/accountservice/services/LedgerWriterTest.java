@@ -0,0 +1,232 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.daos.LedgerEntry;
+import com.accountservice.daos.LedgerPosition;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.exceptions.ServiceBusyException;
+import com.accountservice.models.LedgerEntryType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerWriterTest {
+    private static final long ACCOUNT_ID = 1L;
+    private static final long UNKNOWN_ACCOUNT_ID = 99L;
+    private static final int SNAPSHOT_INTERVAL = 50;
+
+    @Mock
+    private LedgerDao ledgerDao;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Position per account as committed so far, stands in for the account table
+    private final Map<Long, LedgerPosition> positions = new ConcurrentHashMap<>();
+
+    private final CountDownLatch firstCommitStarted = new CountDownLatch(1);
+
+    private final CountDownLatch firstCommitReleased = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LedgerWriter underTest;
+
+    private static LedgerEntry entry(final long accountId) {
+        return entry(accountId, LedgerEntryType.CREDIT);
+    }
+
+    private static LedgerEntry entry(final long accountId, final LedgerEntryType type) {
+        return LedgerEntry.builder()
+            .withAccountId(accountId)
+            .withType(type)
+            .withAmount(BigDecimal.TEN)
+            .withPostedOn(Timestamp.valueOf(LocalDateTime.now()))
+            .build();
+    }
+
+    private static long sequenceOf(final CompletableFuture<LedgerEntry> result) throws Exception {
+        return result.get(5, TimeUnit.SECONDS).getSequence();
+    }
+
+    @BeforeEach
+    void setUp() {
+        positions.put(ACCOUNT_ID, position(41, "100"));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        firstCommitReleased.countDown();
+        underTest.stop();
+    }
+
+    private void givenLedger(final int queueSize) {
+        when(ledgerDao.lockPositions(anyCollection())).thenAnswer(invocation -> {
+            firstCommitStarted.countDown();
+            firstCommitReleased.await(5, TimeUnit.SECONDS);
+            final Map<Long, LedgerPosition> locked = new LinkedHashMap<>();
+            invocation.<Collection<Long>>getArgument(0).stream().filter(positions::containsKey).forEach(id -> locked.put(id, positions.get(id)));
+            return locked;
+        });
+        underTest = new LedgerWriter(ledgerDao, transactionManager, meterRegistry, queueSize, 100, SNAPSHOT_INTERVAL);
+    }
+
+    private void givenPositionsCommitted() {
+        doAnswer(invocation -> {
+            invocation.<Collection<LedgerPosition>>getArgument(0).forEach(position -> positions.put(position.getAccountId(), position));
+            return null;
+        }).when(ledgerDao).updatePositions(anyCollection(), any());
+    }
+
+    private static LedgerPosition position(final long sequence, final String balance) {
+        return LedgerPosition.builder().withAccountId(ACCOUNT_ID).withSequence(sequence).withBalance(new BigDecimal(balance)).build();
+    }
+
+    @Test
+    void givenPostingsOfOneAccount_whenPost_thenConsecutiveSequencesAfterLastOne() throws Exception {
+        givenLedger(10);
+        givenPositionsCommitted();
+        firstCommitReleased.countDown();
+
+        assertThat(sequenceOf(underTest.post(entry(ACCOUNT_ID)))).isEqualTo(42);
+        assertThat(sequenceOf(underTest.post(entry(ACCOUNT_ID)))).isEqualTo(43);
+        assertThat(positions).containsEntry(ACCOUNT_ID, position(43, "120"));
+    }
+
+    @Test
+    void givenPostingsQueuedDuringCommit_whenPost_thenCommittedTogetherInArrivalOrder() throws Exception {
+        givenLedger(10);
+        givenPositionsCommitted();
+        final CompletableFuture<LedgerEntry> first = underTest.post(entry(ACCOUNT_ID));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<LedgerEntry> second = underTest.post(entry(ACCOUNT_ID));
+        final CompletableFuture<LedgerEntry> third = underTest.post(entry(ACCOUNT_ID));
+
+        firstCommitReleased.countDown();
+
+        assertThat(sequenceOf(first)).isEqualTo(42);
+        assertThat(sequenceOf(second)).isEqualTo(43);
+        assertThat(sequenceOf(third)).isEqualTo(44);
+        assertThat(meterRegistry.get(LedgerWriter.METRIC_NAME + ".batch-size").summary().max()).isEqualTo(2);
+    }
+
+    @Test
+    void givenDebitAndCredit_whenPost_thenBalanceMovedBySignedAmounts() throws Exception {
+        givenLedger(10);
+        givenPositionsCommitted();
+        firstCommitReleased.countDown();
+
+        underTest.post(entry(ACCOUNT_ID, LedgerEntryType.DEBIT)).get(5, TimeUnit.SECONDS);
+        underTest.post(entry(ACCOUNT_ID, LedgerEntryType.DEBIT)).get(5, TimeUnit.SECONDS);
+        underTest.post(entry(ACCOUNT_ID, LedgerEntryType.CREDIT)).get(5, TimeUnit.SECONDS);
+
+        assertThat(positions).containsEntry(ACCOUNT_ID, position(44, "90"));
+        verify(ledgerDao, never()).insertSnapshots(any(), any());
+    }
+
+    @Test
+    void givenPostingsCrossingSnapshotInterval_whenPost_thenSnapshotOfPositionAfterBatch() throws Exception {
+        positions.put(ACCOUNT_ID, position(SNAPSHOT_INTERVAL - 2, "100"));
+        givenLedger(10);
+        givenPositionsCommitted();
+        final CompletableFuture<LedgerEntry> first = underTest.post(entry(ACCOUNT_ID));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        underTest.post(entry(ACCOUNT_ID));
+        final CompletableFuture<LedgerEntry> third = underTest.post(entry(ACCOUNT_ID));
+
+        firstCommitReleased.countDown();
+
+        assertThat(sequenceOf(first)).isEqualTo(SNAPSHOT_INTERVAL - 1);
+        assertThat(sequenceOf(third)).isEqualTo(SNAPSHOT_INTERVAL + 1);
+        // The second batch goes from 49 to 51, its snapshot is taken at 51
+        verify(ledgerDao).insertSnapshots(eq(List.of(position(SNAPSHOT_INTERVAL + 1, "130"))), any());
+    }
+
+    @Test
+    void givenPostingToUnknownAccountInBatch_whenPost_thenOnlyThatPostingFails() throws Exception {
+        givenLedger(10);
+        givenPositionsCommitted();
+        final CompletableFuture<LedgerEntry> first = underTest.post(entry(ACCOUNT_ID));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<LedgerEntry> second = underTest.post(entry(ACCOUNT_ID));
+        final CompletableFuture<LedgerEntry> unknown = underTest.post(entry(UNKNOWN_ACCOUNT_ID));
+        final CompletableFuture<LedgerEntry> third = underTest.post(entry(ACCOUNT_ID));
+
+        firstCommitReleased.countDown();
+
+        assertThat(sequenceOf(first)).isEqualTo(42);
+        assertThat(sequenceOf(second)).isEqualTo(43);
+        assertThat(sequenceOf(third)).isEqualTo(44);
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> unknown.get(5, TimeUnit.SECONDS))
+            .withCauseInstanceOf(DataNotFoundException.class);
+    }
+
+    @Test
+    void givenWriterInterrupted_whenPostingsQueued_thenFailedAndWriterStopped() throws Exception {
+        when(ledgerDao.lockPositions(anyCollection())).thenAnswer(invocation -> {
+            firstCommitStarted.countDown();
+            firstCommitReleased.await(5, TimeUnit.SECONDS);
+            // Lands on the writer thread, its next poll throws
+            Thread.currentThread().interrupt();
+            return new LinkedHashMap<>(Map.of(ACCOUNT_ID, positions.get(ACCOUNT_ID)));
+        });
+        underTest = new LedgerWriter(ledgerDao, transactionManager, meterRegistry, 10, 100, SNAPSHOT_INTERVAL);
+        final CompletableFuture<LedgerEntry> first = underTest.post(entry(ACCOUNT_ID));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<LedgerEntry> second = underTest.post(entry(ACCOUNT_ID));
+        final CompletableFuture<LedgerEntry> third = underTest.post(entry(ACCOUNT_ID));
+
+        firstCommitReleased.countDown();
+
+        assertThat(sequenceOf(first)).isEqualTo(42);
+        for (final CompletableFuture<LedgerEntry> queued : List.of(second, third)) {
+            assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(ServiceBusyException.class);
+        }
+        assertThatExceptionOfType(ServiceBusyException.class).isThrownBy(() -> underTest.post(entry(ACCOUNT_ID)));
+    }
+
+    @Test
+    void givenQueueFull_whenPost_thenServiceBusyException() throws Exception {
+        givenLedger(1);
+        underTest.post(entry(ACCOUNT_ID));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        underTest.post(entry(ACCOUNT_ID));
+
+        assertThatExceptionOfType(ServiceBusyException.class).isThrownBy(() -> underTest.post(entry(ACCOUNT_ID)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.accountservice.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.accountservice.daos.ReactiveAccountDao;
+import com.accountservice.daos.ReactiveCustomerDao;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.AccountResponse;
+import com.accountservice.models.PageResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAccountServiceImplTest {
+    @Mock
+    private ReactiveAccountDao reactiveAccountDao;
+    @Mock
+    private ReactiveCustomerDao reactiveCustomerDao;
+    @Mock
+    private AccountService accountService;
+    @InjectMocks
+    private ReactiveAccountServiceImpl reactiveAccountService;
+
+    @Test
+    void givenExistingBid_whenFindByBid_thenMappedResponse() {
+        final Account account = new Account();
+        final AccountResponse response = AccountResponse.builder().withAccountId("bid").build();
+        when(reactiveAccountDao.findByBusinessId("bid")).thenReturn(Mono.just(account));
+        when(accountService.mapResponseFromEntity(account)).thenReturn(response);
+
+        StepVerifier.create(reactiveAccountService.findByBid("bid"))
+            .expectNext(response)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenUnknownBid_whenFindByBid_thenDataNotFound() {
+        when(reactiveAccountDao.findByBusinessId("bid")).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveAccountService.findByBid("bid"))
+            .expectError(DataNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void givenPage_whenFindAll_thenOffsetAndCountUsed() {
+        final PageResponse<AccountResponse> response = PageResponse.<AccountResponse>builder().build();
+        when(reactiveAccountDao.findAll(10, 20)).thenReturn(Flux.just(new Account()));
+        when(reactiveAccountDao.count()).thenReturn(Mono.just(21L));
+        when(accountService.mapToPageResponse(any())).thenReturn(response);
+
+        StepVerifier.create(reactiveAccountService.findAll(10, 2))
+            .expectNext(response)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenUnknownCustomer_whenStreamAccountsForACustomer_thenDataNotFoundAndNoAccountQuery() {
+        when(reactiveCustomerDao.findByBusinessId("bid")).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveAccountService.streamAccountsForACustomer("bid"))
+            .expectError(DataNotFoundException.class)
+            .verify();
+        verify(reactiveAccountDao, never()).findByCustomer(anyLong());
+    }
+
+    @Test
+    void givenCustomer_whenStreamAccountsForACustomer_thenAccountsStreamed() {
+        final Customer customer = new Customer();
+        customer.setId(7L);
+        final Account account = new Account();
+        final AccountResponse response = AccountResponse.builder().withAccountId("bid").build();
+        when(reactiveCustomerDao.findByBusinessId("bid")).thenReturn(Mono.just(customer));
+        when(reactiveAccountDao.findByCustomer(7L)).thenReturn(Flux.just(account, account));
+        when(accountService.mapResponseFromEntity(account)).thenReturn(response);
+
+        StepVerifier.create(reactiveAccountService.streamAccountsForACustomer("bid"))
+            .expectNext(response, response)
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,140 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Customer;
+import com.accountservice.models.LedgerEntryType;
+import com.accountservice.models.TransactionRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(classes = AccountServiceApp.class, properties = {
+    "account-service.archive.batch-size=2",
+    "account-service.archive.pause=0ms"})
+class SoftDeleteArchiverITTest {
+    private static final int ACCOUNTS_PER_CUSTOMER = 5;
+
+    @Autowired
+    private SoftDeleteArchiver underTest;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Customer deletedCustomer;
+
+    private Customer liveCustomer;
+
+    private Customer customer(final String name) {
+        return TestData.customerWithAccounts(customerRepository, accountRepository, name, 1, ACCOUNTS_PER_CUSTOMER).get(0).getCustomer();
+    }
+
+    private int count(final String sql, final Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+
+    private static Timestamp inAMinute() {
+        return Timestamp.valueOf(LocalDateTime.now().plusMinutes(1));
+    }
+
+    @BeforeEach
+    void setUp() {
+        deletedCustomer = customer("DeletedName");
+        liveCustomer = customer("LiveName");
+        customerService.delete(deletedCustomer.getBusinessId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from ledger_entry");
+        jdbcTemplate.update("delete from balance_snapshot");
+        jdbcTemplate.update("delete from account_archive");
+        jdbcTemplate.update("delete from customer_archive");
+        jdbcTemplate.update("delete from account");
+        jdbcTemplate.update("delete from customer");
+    }
+
+    @Test
+    void givenDeletedPastRetention_whenArchive_thenRowsMovedInBatchesAndLiveRowsKept() {
+        final double archivedAccountsBefore = meterRegistry.counter(SoftDeleteArchiver.METRIC_NAME + ".rows", "table", "account").count();
+
+        assertThat(underTest.archive(inAMinute())).isEqualTo(ACCOUNTS_PER_CUSTOMER + 1);
+
+        assertThat(count("select count(*) from customer where id = ?", deletedCustomer.getId())).isZero();
+        assertThat(count("select count(*) from account where customer_id = ?", deletedCustomer.getId())).isZero();
+        assertThat(count("select count(*) from customer_archive where id = ? and deleted_on is not null and archived_on is not null", deletedCustomer.getId())).isOne();
+        assertThat(count("select count(*) from account_archive where customer_id = ?", deletedCustomer.getId())).isEqualTo(ACCOUNTS_PER_CUSTOMER);
+        assertThat(count("select count(*) from account where customer_id = ?", liveCustomer.getId())).isEqualTo(ACCOUNTS_PER_CUSTOMER);
+        assertThat(meterRegistry.counter(SoftDeleteArchiver.METRIC_NAME + ".rows", "table", "account").count() - archivedAccountsBefore)
+            .isEqualTo(ACCOUNTS_PER_CUSTOMER);
+        // Five accounts in batches of two
+        assertThat(meterRegistry.timer(SoftDeleteArchiver.METRIC_NAME + ".batches", "table", "account").count()).isGreaterThanOrEqualTo(3);
+        assertThat(meterRegistry.get(SoftDeleteArchiver.METRIC_NAME + ".pending").tag("table", "account").gauge().value()).isZero();
+    }
+
+    @Test
+    void givenDeletedAccountWithPostings_whenArchive_thenLedgerPositionAndEntriesKept() {
+        final Customer customer = customer("PostedName");
+        final Map<String, Object> account = jdbcTemplate.queryForMap("select id, business_id from account where customer_id = ? order by id limit 1", customer.getId());
+        final String accountBid = (String) account.get("BUSINESS_ID");
+        final Long accountId = (Long) account.get("ID");
+        transactionService.post(accountBid, TransactionRequest.builder().withType(LedgerEntryType.CREDIT).withAmount(new BigDecimal("25")).build());
+        transactionService.post(accountBid, TransactionRequest.builder().withType(LedgerEntryType.DEBIT).withAmount(new BigDecimal("10")).build());
+        customerService.delete(customer.getBusinessId());
+
+        underTest.archive(inAMinute());
+
+        assertThat(jdbcTemplate.queryForMap("select ledger_sequence, balance from account_archive where id = ?", accountId))
+            .containsEntry("LEDGER_SEQUENCE", 2L)
+            .hasEntrySatisfying("BALANCE", balance -> assertThat((BigDecimal) balance).isEqualByComparingTo("15"));
+        assertThat(count("select count(*) from ledger_entry where account_id = ?", accountId)).isEqualTo(2);
+    }
+
+    @Test
+    void givenDeletedWithinRetention_whenArchive_thenNothingMoved() {
+        assertThat(underTest.archive()).isZero();
+
+        assertThat(count("select count(*) from account where customer_id = ? and deleted_on is not null", deletedCustomer.getId())).isEqualTo(ACCOUNTS_PER_CUSTOMER);
+        assertThat(count("select count(*) from customer_archive")).isZero();
+    }
+
+    @Test
+    void givenCustomerWithAccountLeftInLiveTable_whenArchive_thenCustomerKeptUntilAccountsMoved() {
+        jdbcTemplate.update("update account set deleted_on = null where customer_id = ?", deletedCustomer.getId());
+
+        assertThat(underTest.archive(inAMinute())).isZero();
+
+        assertThat(count("select count(*) from customer where id = ?", deletedCustomer.getId())).isOne();
+        assertThat(meterRegistry.get(SoftDeleteArchiver.METRIC_NAME + ".pending").tag("table", "customer").gauge().value()).isZero();
+    }
+}
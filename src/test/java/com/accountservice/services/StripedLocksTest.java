@@ -0,0 +1,84 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class StripedLocksTest {
+    private static final int ROUNDS = 10000;
+
+    private final StripedLocks underTest = new StripedLocks(16);
+
+    private boolean lockAndRelease(final List<Long> ids, final Duration timeout) throws InterruptedException {
+        final Runnable unlock = underTest.lock(ids, timeout);
+        if (unlock == null) {
+            return false;
+        }
+        unlock.run();
+        return true;
+    }
+
+    private CompletableFuture<Boolean> lockAndReleaseInRounds(final List<Long> ids) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                for (int i = 0; i < ROUNDS; i++) {
+                    if (!lockAndRelease(ids, Duration.ofSeconds(5))) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+    }
+
+    @Test
+    void givenIdsInOppositeOrders_whenLockedConcurrently_thenNeverStuck() throws Exception {
+        final CompletableFuture<Boolean> forward = lockAndReleaseInRounds(List.of(1L, 2L));
+        final CompletableFuture<Boolean> backward = lockAndReleaseInRounds(List.of(2L, 1L));
+
+        assertThat(forward.get(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(backward.get(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void givenStripeHeldByAnotherThread_whenLock_thenNullAndStripesTakenSoFarReleased() throws Exception {
+        final CountDownLatch held = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try {
+                final Runnable unlock = underTest.lock(List.of(3L), Duration.ofSeconds(1));
+                held.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                unlock.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(underTest.stripeOf(1L)).isLessThan(underTest.stripeOf(3L));
+
+        try {
+            // The stripe of 1 is taken first and given back once the one of 3 times out
+            assertThat(underTest.lock(List.of(1L, 3L), Duration.ofMillis(50))).isNull();
+            assertThat(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return lockAndRelease(List.of(1L), Duration.ofMillis(50));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
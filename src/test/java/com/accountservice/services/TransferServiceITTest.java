@@ -0,0 +1,146 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.accountservice.AccountServiceApp;
+import com.accountservice.TestData;
+import com.accountservice.daos.AccountRepository;
+import com.accountservice.daos.CustomerRepository;
+import com.accountservice.entities.Account;
+import com.accountservice.entities.Customer;
+import com.accountservice.exceptions.DataNotFoundException;
+import com.accountservice.models.LedgerEntryType;
+import com.accountservice.models.TransactionRequest;
+import com.accountservice.models.TransferRequest;
+
+@SpringBootTest(classes = AccountServiceApp.class, properties = "account-service.ledger.snapshot-interval=10")
+class TransferServiceITTest {
+    private static final int ACCOUNTS = 4;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 50;
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000");
+
+    @Autowired
+    private TransferService underTest;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceChecker balanceChecker;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+
+    private final List<Account> accounts = new ArrayList<>();
+
+    private static TransferRequest transferRequest(final Account from, final Account to, final BigDecimal amount) {
+        return TransferRequest.builder().withFromAccountBid(from.getBusinessId()).withToAccountBid(to.getBusinessId()).withAmount(amount).build();
+    }
+
+    private BigDecimal balanceOf(final Account account) {
+        return jdbcTemplate.queryForObject("select balance from account where id = ?", BigDecimal.class, account.getId());
+    }
+
+    @BeforeEach
+    void setUp() {
+        accounts.addAll(TestData.customerWithAccounts(customerRepository, accountRepository, "TestName", 1, ACCOUNTS));
+        customer = accounts.get(0).getCustomer();
+        accounts.forEach(account -> transactionService.post(account.getBusinessId(), TransactionRequest.builder().withType(LedgerEntryType.CREDIT).withAmount(OPENING_BALANCE).build()));
+    }
+
+    @AfterEach
+    void dataCleanUp() {
+        jdbcTemplate.update("delete from balance_snapshot");
+        jdbcTemplate.update("delete from ledger_entry");
+        jdbcTemplate.update("delete from account");
+        jdbcTemplate.update("delete from customer");
+    }
+
+    @Test
+    void givenConcurrentTransfersBothWaysAndPostings_whenTransfer_thenAllCommittedAndMoneyConserved() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS + 1);
+        final List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                final Random random = new Random(t);
+                results.add(executorService.submit(() -> {
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        // Random pairs of distinct accounts, so every pair is transferred both ways at once
+                        final int from = random.nextInt(ACCOUNTS);
+                        final int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                        underTest.transfer(transferRequest(accounts.get(from), accounts.get(to), BigDecimal.valueOf(1 + random.nextInt(5))));
+                    }
+                    return null;
+                }));
+            }
+            // Postings through the group commit lock the same accounts meanwhile, a credit and a debit of the same amount
+            results.add(executorService.submit(() -> {
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    final Account account = accounts.get(i % ACCOUNTS);
+                    transactionService.post(account.getBusinessId(), TransactionRequest.builder().withType(LedgerEntryType.CREDIT).withAmount(BigDecimal.ONE).build());
+                    transactionService.post(account.getBusinessId(), TransactionRequest.builder().withType(LedgerEntryType.DEBIT).withAmount(BigDecimal.ONE).build());
+                }
+                return null;
+            }));
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(accounts.stream().map(this::balanceOf).reduce(BigDecimal.ZERO, BigDecimal::add))
+            .isEqualByComparingTo(OPENING_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS)));
+        // Opening credits, both sides of every transfer and the postings
+        assertThat(jdbcTemplate.queryForObject("select count(*) from ledger_entry", Integer.class))
+            .isEqualTo(ACCOUNTS + 2 * THREADS * TRANSFERS_PER_THREAD + 2 * TRANSFERS_PER_THREAD);
+        assertThat(jdbcTemplate.queryForObject("select sum(case when entry_type = 'CREDIT' then amount else -amount end) from ledger_entry", BigDecimal.class))
+            .isEqualByComparingTo(OPENING_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS)));
+        assertThat(balanceChecker.check()).isZero();
+    }
+
+    @Test
+    void givenTransfer_whenTransfer_thenBalancesOfBothAccountsMoved() {
+        underTest.transfer(transferRequest(accounts.get(0), accounts.get(1), new BigDecimal("12.5")));
+
+        assertThat(balanceOf(accounts.get(0))).isEqualByComparingTo("987.5");
+        assertThat(balanceOf(accounts.get(1))).isEqualByComparingTo("1012.5");
+    }
+
+    @Test
+    void givenDeletedAccount_whenTransfer_thenDataNotFoundAndNothingPosted() {
+        jdbcTemplate.update("update account set deleted_on = current_timestamp where id = ?", accounts.get(1).getId());
+
+        assertThatExceptionOfType(DataNotFoundException.class)
+            .isThrownBy(() -> underTest.transfer(transferRequest(accounts.get(0), accounts.get(1), BigDecimal.ONE)));
+
+        assertThat(balanceOf(accounts.get(0))).isEqualByComparingTo(OPENING_BALANCE);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from ledger_entry where account_id = ?", Integer.class, accounts.get(0).getId())).isOne();
+    }
+}
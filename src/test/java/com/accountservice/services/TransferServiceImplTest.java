@@ -0,0 +1,144 @@
+package com.accountservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.accountservice.daos.LedgerDao;
+import com.accountservice.daos.LedgerPosition;
+import com.accountservice.entities.Account;
+import com.accountservice.exceptions.InvalidDataException;
+import com.accountservice.exceptions.ServiceBusyException;
+import com.accountservice.models.LedgerEntryType;
+import com.accountservice.models.TransferRequest;
+import com.accountservice.models.TransferResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TransferServiceImplTest {
+    private static final String FROM_BID = "AC000000000001";
+    private static final String TO_BID = "AC000000000002";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private LedgerDao ledgerDao;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<Collection<LedgerPosition>> positionsCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TransferServiceImpl underTest;
+
+    private static Account account(final long id, final String bid, final String currency) {
+        final Account account = new Account();
+        account.setId(id);
+        account.setBusinessId(bid);
+        account.setCurrency(currency);
+        return account;
+    }
+
+    private static LedgerPosition position(final long accountId, final long sequence, final String balance) {
+        return LedgerPosition.builder().withAccountId(accountId).withSequence(sequence).withBalance(new BigDecimal(balance)).build();
+    }
+
+    private static TransferRequest transferRequest(final String fromBid, final String toBid) {
+        return TransferRequest.builder().withFromAccountBid(fromBid).withToAccountBid(toBid).withAmount(BigDecimal.TEN).withDescription("Rent").build();
+    }
+
+    private static Map<Long, LedgerPosition> positions() {
+        final Map<Long, LedgerPosition> positions = new LinkedHashMap<>();
+        positions.put(1L, position(1, 4, "100"));
+        positions.put(2L, position(2, 7, "5"));
+        return positions;
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new TransferServiceImpl(accountService, ledgerDao, transactionManager, meterRegistry, 16, Duration.ofSeconds(1), MAX_ATTEMPTS,
+            Duration.ofMillis(1), Duration.ofMillis(5), 100);
+    }
+
+    private void givenAccounts(final String toCurrency) {
+        when(accountService.getByBusinessId(FROM_BID)).thenReturn(Optional.of(account(1, FROM_BID, "GBP")));
+        when(accountService.getByBusinessId(TO_BID)).thenReturn(Optional.of(account(2, TO_BID, toCurrency)));
+    }
+
+    @Test
+    void givenLockTimeoutOnFirstAttempt_whenTransfer_thenRetriedAndBothEntriesPosted() {
+        givenAccounts("GBP");
+        when(ledgerDao.lockPositions(anyCollection()))
+            .thenThrow(new CannotAcquireLockException("Timeout trying to lock table"))
+            .thenReturn(positions());
+
+        final TransferResponse response = underTest.transfer(transferRequest(FROM_BID, TO_BID));
+
+        assertThat(response.getDebit().getAccountId()).isEqualTo(FROM_BID);
+        assertThat(response.getDebit().getSequence()).isEqualTo(5);
+        assertThat(response.getDebit().getType()).isEqualTo(LedgerEntryType.DEBIT);
+        assertThat(response.getCredit().getAccountId()).isEqualTo(TO_BID);
+        assertThat(response.getCredit().getSequence()).isEqualTo(8);
+        assertThat(response.getCredit().getType()).isEqualTo(LedgerEntryType.CREDIT);
+        verify(ledgerDao).updatePositions(positionsCaptor.capture(), any());
+        assertThat(positionsCaptor.getValue()).containsExactly(position(1, 5, "90"), position(2, 8, "15"));
+        assertThat(meterRegistry.get(TransferServiceImpl.METRIC_NAME + ".retries").counter().count()).isEqualTo(1);
+        verify(accountService, times(2)).evict(any());
+    }
+
+    @Test
+    void givenLockTimeoutOnEveryAttempt_whenTransfer_thenServiceBusyExceptionAfterMaxAttempts() {
+        givenAccounts("GBP");
+        when(ledgerDao.lockPositions(anyCollection())).thenThrow(new CannotAcquireLockException("Timeout trying to lock table"));
+
+        assertThatExceptionOfType(ServiceBusyException.class).isThrownBy(() -> underTest.transfer(transferRequest(FROM_BID, TO_BID)));
+
+        verify(ledgerDao, times(MAX_ATTEMPTS)).lockPositions(anyCollection());
+        verify(ledgerDao, never()).insert(any());
+    }
+
+    @Test
+    void givenSameAccount_whenTransfer_thenInvalidDataException() {
+        assertThatExceptionOfType(InvalidDataException.class).isThrownBy(() -> underTest.transfer(transferRequest(FROM_BID, FROM_BID)));
+
+        verify(ledgerDao, never()).lockPositions(anyCollection());
+    }
+
+    @Test
+    void givenAccountsInDifferentCurrencies_whenTransfer_thenInvalidDataException() {
+        givenAccounts("EUR");
+
+        assertThatExceptionOfType(InvalidDataException.class).isThrownBy(() -> underTest.transfer(transferRequest(FROM_BID, TO_BID)));
+
+        verify(ledgerDao, never()).lockPositions(anyCollection());
+    }
+}